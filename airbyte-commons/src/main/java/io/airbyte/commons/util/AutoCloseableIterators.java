@@ -149,4 +149,20 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Consumes the provided iterators concurrently and merges their records into a single iterator.
+   * Records of one input iterator keep their order, but records of different input iterators are
+   * interleaved.
+   *
+   * @param iterators iterators to merge
+   * @param parallelism maximum number of input iterators that are consumed at the same time
+   * @param bufferSize maximum number of records that have been read but not returned yet
+   * @param <T> type
+   * @return autocloseable iterator over the records of all input iterators
+   * @see ConcurrentCompositeIterator
+   */
+  public static <T> ConcurrentCompositeIterator<T> mergeConcurrently(List<AutoCloseableIterator<T>> iterators, int parallelism, int bufferSize) {
+    return new ConcurrentCompositeIterator<>(iterators, parallelism, bufferSize);
+  }
+
 }
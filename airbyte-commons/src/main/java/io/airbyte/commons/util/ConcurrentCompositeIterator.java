@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s by consuming them concurrently. Up to
+ * parallelism internal iterators are consumed at the same time, each on its own thread, and their
+ * records are handed over through a bounded buffer. Records of the same internal iterator keep their
+ * relative order, but records of different internal iterators are interleaved in no particular
+ * order.
+ *
+ * <p>
+ * Each internal iterator is closed by the thread that consumed it, right after its
+ * {@link Iterator#hasNext} function returns false. If an internal iterator throws, the exception is
+ * rethrown by the next call to {@link ConcurrentCompositeIterator#hasNext} or
+ * {@link ConcurrentCompositeIterator#next}.
+ * </p>
+ * <p>
+ * {@link ConcurrentCompositeIterator}s should be closed. Calling
+ * {@link ConcurrentCompositeIterator#close()} stops the consuming threads and then attempts to
+ * close each internal iterator that was not closed yet, with the same guarantees as
+ * {@link CompositeIterator#close()}. So each internal iterator is closed exactly once.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ConcurrentCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCompositeIterator.class);
+
+  private static final Object END_OF_ITERATOR = new Object();
+  private static final long POLL_TIMEOUT_MS = 100;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int parallelism;
+  private final BlockingQueue<Object> buffer;
+  private final AtomicReference<Exception> failure;
+  // indices of the internal iterators that were closed, either by their consuming thread or by close.
+  private final Set<Integer> closedIterators;
+
+  private ExecutorService executorService;
+  private int exhaustedIterators;
+  private volatile boolean hasClosed;
+
+  ConcurrentCompositeIterator(final List<AutoCloseableIterator<T>> iterators, final int parallelism, final int bufferSize) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+    Preconditions.checkArgument(bufferSize > 0, "bufferSize must be positive");
+
+    this.iterators = iterators;
+    this.parallelism = parallelism;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.failure = new AtomicReference<>();
+    this.closedIterators = ConcurrentHashMap.newKeySet();
+    this.exhaustedIterators = 0;
+    this.hasClosed = false;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected T computeNext() {
+    assertHasNotClosed();
+
+    if (executorService == null) {
+      start();
+    }
+
+    while (exhaustedIterators < iterators.size()) {
+      if (failure.get() != null) {
+        throw new RuntimeException(failure.get());
+      }
+
+      final Object next;
+      try {
+        next = buffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+
+      if (next == END_OF_ITERATOR) {
+        exhaustedIterators++;
+      } else if (next != null) {
+        return (T) next;
+      }
+    }
+
+    return endOfData();
+  }
+
+  private void start() {
+    // an empty input still needs an executor so that close can shut it down.
+    executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, iterators.size())));
+    for (int i = 0; i < iterators.size(); i++) {
+      final int index = i;
+      executorService.submit(() -> consume(index));
+    }
+  }
+
+  private void consume(final int index) {
+    final AutoCloseableIterator<T> iterator = iterators.get(index);
+    try {
+      while (!hasClosed && iterator.hasNext()) {
+        put(iterator.next());
+      }
+      closeOnce(index);
+      put(END_OF_ITERATOR);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      failure.compareAndSet(null, e);
+    }
+  }
+
+  private void put(final Object item) throws InterruptedException {
+    while (!buffer.offer(item, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+      if (hasClosed) {
+        throw new InterruptedException("Iterator was closed while its records were still being consumed.");
+      }
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    if (executorService != null) {
+      executorService.shutdownNow();
+      if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Threads consuming the internal iterators did not terminate in time.");
+      }
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (int i = 0; i < iterators.size(); i++) {
+      try {
+        closeOnce(i);
+      } catch (final Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private void closeOnce(final int index) throws Exception {
+    if (closedIterators.add(index)) {
+      iterators.get(index).close();
+    }
+  }
+
+  private void assertHasNotClosed() {
+    Preconditions.checkState(!hasClosed);
+  }
+
+}
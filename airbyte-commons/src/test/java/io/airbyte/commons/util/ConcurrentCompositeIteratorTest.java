@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCompositeIteratorTest {
+
+  private VoidCallable onClose1;
+  private VoidCallable onClose2;
+  private VoidCallable onClose3;
+
+  @BeforeEach
+  void setup() {
+    onClose1 = mock(VoidCallable.class);
+    onClose2 = mock(VoidCallable.class);
+    onClose3 = mock(VoidCallable.class);
+  }
+
+  @Test
+  void testNullInput() {
+    assertThrows(NullPointerException.class, () -> new ConcurrentCompositeIterator<>(null, 1, 1));
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(Collections.emptyList(), 2, 10);
+    assertFalse(iterator.hasNext());
+    iterator.close();
+  }
+
+  @Test
+  void testMultipleIterators() throws Exception {
+    final List<String> first = records("a", 500);
+    final List<String> second = records("b", 500);
+    final List<String> third = records("c", 500);
+    // the buffer is much smaller than the input so that the consuming threads block on it.
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(first.iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(second.iterator(), onClose2),
+        AutoCloseableIterators.fromIterator(third.iterator(), onClose3)), 2, 3);
+
+    final List<String> actual = MoreIterators.toList(iterator);
+
+    assertEquals(first, filter(actual, "a"));
+    assertEquals(second, filter(actual, "b"));
+    assertEquals(third, filter(actual, "c"));
+    verify(onClose1).call();
+    verify(onClose2).call();
+    verify(onClose3).call();
+
+    iterator.close();
+  }
+
+  @Test
+  void testFailingIterator() throws Exception {
+    final Iterator<String> failing = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new IllegalStateException("read failed");
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(failing, onClose1),
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a"), onClose2)), 2, 10);
+
+    assertThrows(RuntimeException.class, () -> MoreIterators.toList(iterator));
+
+    iterator.close();
+    verify(onClose1).call();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testClosesEachIteratorOnce() throws Exception {
+    final AutoCloseableIterator<String> consumed = mock(AutoCloseableIterator.class);
+    final AutoCloseableIterator<String> unused = mock(AutoCloseableIterator.class);
+    when(unused.hasNext()).thenReturn(true);
+    when(unused.next()).thenReturn("a");
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(consumed, unused), 2, 1);
+
+    // the consumed iterator is empty, so its consuming thread closes it.
+    assertTrue(iterator.hasNext());
+    verify(consumed, timeout(1000)).close();
+    iterator.close();
+
+    verify(consumed, times(1)).close();
+    verify(unused, times(1)).close();
+  }
+
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  @Test
+  void testCloseBeforeUsingItUp() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(records("a", 100).iterator(), onClose1)), 1, 1);
+
+    assertTrue(iterator.hasNext());
+    assertEquals("a0", iterator.next());
+    iterator.close();
+
+    verify(onClose1).call();
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+  }
+
+  private static List<String> records(final String prefix, final int count) {
+    return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList());
+  }
+
+  private static List<String> filter(final List<String> records, final String prefix) {
+    return records.stream().filter(r -> r.startsWith(prefix)).collect(Collectors.toList());
+  }
+
+}
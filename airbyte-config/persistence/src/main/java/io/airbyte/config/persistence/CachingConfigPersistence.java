@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache in front of another {@link ConfigPersistence}. Each config type gets its own
+ * bounded cache of single configs and a cached copy of its full listing. Writes and deletes going
+ * through this persistence invalidate the affected config and the listing of its type; writes made
+ * by other processes become visible once the cached entries expire.
+ */
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CachingConfigPersistence.class);
+
+  public static final long DEFAULT_MAXIMUM_SIZE_PER_TYPE = 10_000;
+  public static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofSeconds(10);
+  public static final Duration DEFAULT_STATS_LOG_INTERVAL = Duration.ofMinutes(10);
+
+  private final ConfigPersistence decoratedPersistence;
+  private final long maximumSizePerType;
+  private final Duration expireAfterWrite;
+  private final Map<String, TypeCache> typeCaches = new ConcurrentHashMap<>();
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence) {
+    this(decoratedPersistence, DEFAULT_MAXIMUM_SIZE_PER_TYPE, DEFAULT_EXPIRE_AFTER_WRITE);
+  }
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence, final long maximumSizePerType, final Duration expireAfterWrite) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.maximumSizePerType = maximumSizePerType;
+    this.expireAfterWrite = expireAfterWrite;
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    final TypeCache typeCache = getTypeCache(configType);
+    final JsonNode cachedConfig = typeCache.configs.getIfPresent(configId);
+    if (cachedConfig != null) {
+      return Jsons.object(cachedConfig, clazz);
+    }
+
+    final long generation = typeCache.generation;
+    final T config = decoratedPersistence.getConfig(configType, configId, clazz);
+    typeCache.putConfig(generation, configId, Jsons.jsonNode(config));
+    return config;
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    final TypeCache typeCache = getTypeCache(configType);
+    final List<JsonNode> cachedConfigs = typeCache.listings.getIfPresent(configType.name());
+    if (cachedConfigs != null) {
+      return cachedConfigs.stream().map(config -> Jsons.object(config, clazz)).collect(Collectors.toList());
+    }
+
+    final long generation = typeCache.generation;
+    final List<T> configs = decoratedPersistence.listConfigs(configType, clazz);
+    typeCache.putListing(generation, configType.name(), configs.stream().map(Jsons::jsonNode).collect(Collectors.toList()));
+    return configs;
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz, final Map<String, Set<String>> fieldValues)
+      throws JsonValidationException, IOException {
+    // a cached listing is filtered in memory, otherwise the filter is left to the decorated
+    // persistence and its result is not cached.
+    if (getTypeCache(configType).listings.asMap().containsKey(configType.name())) {
+      return ConfigPersistence.super.listConfigs(configType, clazz, fieldValues);
+    }
+    return decoratedPersistence.listConfigs(configType, clazz, fieldValues);
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType,
+                                 final Class<T> clazz,
+                                 final Map<String, Set<String>> fieldValues,
+                                 final Map<String, Set<String>> excludedFieldValues)
+      throws JsonValidationException, IOException {
+    if (getTypeCache(configType).listings.asMap().containsKey(configType.name())) {
+      return ConfigPersistence.super.listConfigs(configType, clazz, fieldValues, excludedFieldValues);
+    }
+    return decoratedPersistence.listConfigs(configType, clazz, fieldValues, excludedFieldValues);
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      getTypeCache(configType).invalidate(configId);
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      getTypeCache(configType).invalidate(configId);
+    }
+  }
+
+  @Override
+  public <T> void replaceAllConfigs(final Map<AirbyteConfig, Stream<T>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      if (!dryRun) {
+        typeCaches.values().forEach(TypeCache::invalidateAll);
+      }
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  /**
+   * @return hit and miss counts of the single config cache of the given type
+   */
+  public CacheStats getConfigCacheStats(final AirbyteConfig configType) {
+    return getTypeCache(configType).configs.stats();
+  }
+
+  /**
+   * @return hit and miss counts of the listing cache of the given type
+   */
+  public CacheStats getListingCacheStats(final AirbyteConfig configType) {
+    return getTypeCache(configType).listings.stats();
+  }
+
+  public void logCacheStats() {
+    typeCaches.forEach((configType, typeCache) -> LOGGER.info("Config cache {}: configs {}, listings {}",
+        configType, typeCache.configs.stats(), typeCache.listings.stats()));
+  }
+
+  /**
+   * Logs the stats of all caches on a daemon thread at a fixed interval, for as long as the process
+   * runs.
+   */
+  public CachingConfigPersistence withCacheStatsLogging(final Duration interval) {
+    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("config-cache-stats-%d").setDaemon(true).build());
+    executor.scheduleWithFixedDelay(this::logCacheStats, interval.toSeconds(), interval.toSeconds(), TimeUnit.SECONDS);
+    return this;
+  }
+
+  private TypeCache getTypeCache(final AirbyteConfig configType) {
+    return typeCaches.computeIfAbsent(configType.name(), ignored -> new TypeCache(maximumSizePerType, expireAfterWrite));
+  }
+
+  /**
+   * Caches of one config type. The generation is bumped on every invalidation so that a read which
+   * started before a write does not put the value it loaded back into the cache afterwards.
+   */
+  private static class TypeCache {
+
+    private final Cache<String, JsonNode> configs;
+    private final Cache<String, List<JsonNode>> listings;
+    private volatile long generation = 0;
+
+    TypeCache(final long maximumSize, final Duration expireAfterWrite) {
+      this.configs = CacheBuilder.newBuilder()
+          .maximumSize(maximumSize)
+          .expireAfterWrite(expireAfterWrite)
+          .recordStats()
+          .build();
+      this.listings = CacheBuilder.newBuilder()
+          .maximumSize(1)
+          .expireAfterWrite(expireAfterWrite)
+          .recordStats()
+          .build();
+    }
+
+    synchronized void putConfig(final long loadedAtGeneration, final String configId, final JsonNode config) {
+      if (loadedAtGeneration == generation) {
+        configs.put(configId, config);
+      }
+    }
+
+    synchronized void putListing(final long loadedAtGeneration, final String key, final List<JsonNode> configList) {
+      if (loadedAtGeneration == generation) {
+        listings.put(key, configList);
+      }
+    }
+
+    synchronized void invalidate(final String configId) {
+      generation++;
+      configs.invalidate(configId);
+      listings.invalidateAll();
+    }
+
+    synchronized void invalidateAll() {
+      generation++;
+      configs.invalidateAll();
+      listings.invalidateAll();
+    }
+
+  }
+
+}
@@ -25,11 +25,14 @@
 package io.airbyte.config.persistence;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.AirbyteConfig;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public interface ConfigPersistence {
@@ -38,6 +41,39 @@ public interface ConfigPersistence {
 
   <T> List<T> listConfigs(AirbyteConfig configType, Class<T> clazz) throws JsonValidationException, IOException;
 
+  /**
+   * List the configs of a type whose top level fields have one of the given values, e.g. the source
+   * connections with workspaceId in [id]. Configs missing one of the fields are left out. Persistences
+   * that can apply the filter while reading should override this default, which lists all the configs
+   * of the type and filters them in memory.
+   *
+   * @param fieldValues - values accepted for each field, as their JSON text
+   */
+  default <T> List<T> listConfigs(AirbyteConfig configType, Class<T> clazz, Map<String, Set<String>> fieldValues)
+      throws JsonValidationException, IOException {
+    return listConfigs(configType, clazz)
+        .stream()
+        .filter(config -> hasFieldValues(Jsons.jsonNode(config), fieldValues))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Like {@link #listConfigs(AirbyteConfig, Class, Map)}, but also leaves out the configs whose top
+   * level fields have one of the excluded values. Configs missing an excluded field are kept.
+   *
+   * @param excludedFieldValues - values rejected for each field, as their JSON text
+   */
+  default <T> List<T> listConfigs(AirbyteConfig configType,
+                                  Class<T> clazz,
+                                  Map<String, Set<String>> fieldValues,
+                                  Map<String, Set<String>> excludedFieldValues)
+      throws JsonValidationException, IOException {
+    return listConfigs(configType, clazz, fieldValues)
+        .stream()
+        .filter(config -> !hasAnyExcludedFieldValue(Jsons.jsonNode(config), excludedFieldValues))
+        .collect(Collectors.toList());
+  }
+
   <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws JsonValidationException, IOException;
 
   void deleteConfig(AirbyteConfig configType, String configId) throws ConfigNotFoundException, IOException;
@@ -46,4 +82,16 @@ public interface ConfigPersistence {
 
   Map<String, Stream<JsonNode>> dumpConfigs() throws IOException;
 
+  private static boolean hasFieldValues(JsonNode config, Map<String, Set<String>> fieldValues) {
+    return fieldValues.entrySet()
+        .stream()
+        .allMatch(entry -> config.hasNonNull(entry.getKey()) && entry.getValue().contains(config.get(entry.getKey()).asText()));
+  }
+
+  private static boolean hasAnyExcludedFieldValue(JsonNode config, Map<String, Set<String>> excludedFieldValues) {
+    return excludedFieldValues.entrySet()
+        .stream()
+        .anyMatch(entry -> config.hasNonNull(entry.getKey()) && entry.getValue().contains(config.get(entry.getKey()).asText()));
+  }
+
 }
@@ -41,11 +41,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class ConfigRepository {
 
+  private static final String WORKSPACE_ID_FIELD = "workspaceId";
+  private static final String SOURCE_ID_FIELD = "sourceId";
+  private static final String STATUS_FIELD = "status";
+
   private final ConfigPersistence persistence;
 
   public ConfigRepository(final ConfigPersistence persistence) {
@@ -174,6 +180,13 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class);
   }
 
+  /**
+   * @return the sources of the workspace, including deleted ones
+   */
+  public List<SourceConnection> listSourceConnectionsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    return persistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class, workspaceFilter(workspaceId));
+  }
+
   public DestinationConnection getDestinationConnection(final UUID destinationId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.DESTINATION_CONNECTION, destinationId.toString(), DestinationConnection.class);
@@ -187,6 +200,13 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class);
   }
 
+  /**
+   * @return the destinations of the workspace, including deleted ones
+   */
+  public List<DestinationConnection> listDestinationConnectionsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    return persistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class, workspaceFilter(workspaceId));
+  }
+
   public StandardSync getStandardSync(final UUID connectionId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC, connectionId.toString(), StandardSync.class);
   }
@@ -199,6 +219,22 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class);
   }
 
+  /**
+   * Connections belong to the workspace of their source.
+   */
+  public List<StandardSync> listStandardSyncsForWorkspace(final UUID workspaceId, final boolean includeDeprecated)
+      throws JsonValidationException, IOException {
+    final Set<String> sourceIds = listSourceConnectionsForWorkspace(workspaceId)
+        .stream()
+        .map(source -> source.getSourceId().toString())
+        .collect(Collectors.toSet());
+    // connections without a status are not deprecated.
+    final Map<String, Set<String>> excludedFieldValues = includeDeprecated
+        ? Map.of()
+        : Map.of(STATUS_FIELD, Set.of(StandardSync.Status.DEPRECATED.value()));
+    return persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class, Map.of(SOURCE_ID_FIELD, sourceIds), excludedFieldValues);
+  }
+
   public StandardSyncOperation getStandardSyncOperation(final UUID operationId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC_OPERATION, operationId.toString(), StandardSyncOperation.class);
   }
@@ -211,6 +247,13 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC_OPERATION, StandardSyncOperation.class);
   }
 
+  /**
+   * @return the operations of the workspace, including deleted ones
+   */
+  public List<StandardSyncOperation> listStandardSyncOperationsForWorkspace(final UUID workspaceId) throws IOException, JsonValidationException {
+    return persistence.listConfigs(ConfigSchema.STANDARD_SYNC_OPERATION, StandardSyncOperation.class, workspaceFilter(workspaceId));
+  }
+
   public <T> void replaceAllConfigs(final Map<AirbyteConfig, Stream<T>> configs, final boolean dryRun) throws IOException {
     persistence.replaceAllConfigs(configs, dryRun);
   }
@@ -219,4 +262,8 @@ public class ConfigRepository {
     return persistence.dumpConfigs();
   }
 
+  private static Map<String, Set<String>> workspaceFilter(final UUID workspaceId) {
+    return Map.of(WORKSPACE_ID_FIELD, Set.of(workspaceId.toString()));
+  }
+
 }
@@ -27,6 +27,7 @@ package io.airbyte.config.persistence;
 import static io.airbyte.db.instance.configs.jooq.Tables.AIRBYTE_CONFIGS;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.select;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -44,6 +45,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,6 +54,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.JSONB;
@@ -92,6 +95,13 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     return new ValidatingConfigPersistence(this);
   }
 
+  /**
+   * Validate and cache the configs read from this persistence.
+   */
+  public CachingConfigPersistence withValidationAndCaching() {
+    return new CachingConfigPersistence(withValidation());
+  }
+
   @Override
   public <T> T getConfig(AirbyteConfig configType, String configId, Class<T> clazz)
       throws ConfigNotFoundException, JsonValidationException, IOException {
@@ -121,6 +131,47 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public <T> List<T> listConfigs(AirbyteConfig configType, Class<T> clazz, Map<String, Set<String>> fieldValues) throws IOException {
+    return listConfigs(configType, clazz, fieldValues, Map.of());
+  }
+
+  @Override
+  public <T> List<T> listConfigs(AirbyteConfig configType,
+                                 Class<T> clazz,
+                                 Map<String, Set<String>> fieldValues,
+                                 Map<String, Set<String>> excludedFieldValues)
+      throws IOException {
+    if (fieldValues.values().stream().anyMatch(Set::isEmpty)) {
+      return List.of();
+    }
+
+    final List<Condition> conditions = new ArrayList<>();
+    conditions.add(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(configType.name()));
+    fieldValues.forEach((fieldName, values) -> conditions.add(configField(fieldName).in(values)));
+    excludedFieldValues.entrySet().stream()
+        .filter(entry -> !entry.getValue().isEmpty())
+        .forEach(entry -> conditions.add(configField(entry.getKey()).isNull().or(configField(entry.getKey()).notIn(entry.getValue()))));
+
+    Result<Record> results = database.query(ctx -> ctx.select(asterisk())
+        .from(AIRBYTE_CONFIGS)
+        .where(conditions)
+        .orderBy(AIRBYTE_CONFIGS.CONFIG_TYPE, AIRBYTE_CONFIGS.CONFIG_ID)
+        .fetch());
+    return results.stream()
+        .map(record -> Jsons.deserialize(record.get(AIRBYTE_CONFIGS.CONFIG_BLOB).data(), clazz))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * A top level field of the config blobs, as text. The field name is inlined rather than bound, so
+   * that the expression matches the expression indexes on airbyte_configs.
+   */
+  @VisibleForTesting
+  static Field<String> configField(String fieldName) {
+    return field("({0} ->> {1})", String.class, AIRBYTE_CONFIGS.CONFIG_BLOB, inline(fieldName));
+  }
+
   @Override
   public <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws IOException {
     database.transaction(ctx -> {
@@ -32,6 +32,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 // we force all interaction with disk storage to be effectively single threaded.
@@ -66,6 +67,29 @@ public class ValidatingConfigPersistence implements ConfigPersistence {
     return configs;
   }
 
+  @Override
+  public <T> List<T> listConfigs(AirbyteConfig configType, Class<T> clazz, Map<String, Set<String>> fieldValues)
+      throws JsonValidationException, IOException {
+    final List<T> configs = decoratedPersistence.listConfigs(configType, clazz, fieldValues);
+    for (T config : configs) {
+      validateJson(config, configType);
+    }
+    return configs;
+  }
+
+  @Override
+  public <T> List<T> listConfigs(AirbyteConfig configType,
+                                 Class<T> clazz,
+                                 Map<String, Set<String>> fieldValues,
+                                 Map<String, Set<String>> excludedFieldValues)
+      throws JsonValidationException, IOException {
+    final List<T> configs = decoratedPersistence.listConfigs(configType, clazz, fieldValues, excludedFieldValues);
+    for (T config : configs) {
+      validateJson(config, configType);
+    }
+    return configs;
+  }
+
   @Override
   public <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws JsonValidationException, IOException {
     validateJson(Jsons.jsonNode(config), configType);
@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final UUID UUID_1 = new UUID(0, 1);
+  private static final StandardSourceDefinition SOURCE_1 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_1)
+      .withName("apache storm");
+  private static final UUID UUID_2 = new UUID(0, 2);
+  private static final StandardSourceDefinition SOURCE_2 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_2)
+      .withName("apache kafka");
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() throws IOException, JsonValidationException, ConfigNotFoundException {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    configPersistence = new CachingConfigPersistence(decoratedConfigPersistence, 10, Duration.ofMinutes(1));
+
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2));
+  }
+
+  @Test
+  void testGetConfigIsReadThrough() throws IOException, JsonValidationException, ConfigNotFoundException {
+    assertEquals(SOURCE_1, getSource(UUID_1));
+    final StandardSourceDefinition cachedConfig = getSource(UUID_1);
+
+    assertEquals(SOURCE_1, cachedConfig);
+    assertNotSame(SOURCE_1, cachedConfig);
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    assertEquals(1, configPersistence.getConfigCacheStats(ConfigSchema.STANDARD_SOURCE_DEFINITION).hitCount());
+    assertEquals(1, configPersistence.getConfigCacheStats(ConfigSchema.STANDARD_SOURCE_DEFINITION).missCount());
+  }
+
+  @Test
+  void testCachedConfigCannotBeMutatedByCaller() throws IOException, JsonValidationException, ConfigNotFoundException {
+    getSource(UUID_1);
+    getSource(UUID_1).withName("mutated");
+
+    assertEquals(SOURCE_1, getSource(UUID_1));
+  }
+
+  @Test
+  void testConfigNotFoundIsNotCached() throws IOException, JsonValidationException, ConfigNotFoundException {
+    doThrow(new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString())).when(decoratedConfigPersistence)
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), StandardSourceDefinition.class);
+
+    assertThrows(ConfigNotFoundException.class, () -> getSource(UUID_2));
+    assertThrows(ConfigNotFoundException.class, () -> getSource(UUID_2));
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testListConfigsIsReadThrough() throws IOException, JsonValidationException {
+    assertEquals(List.of(SOURCE_1, SOURCE_2), listSources());
+    assertEquals(List.of(SOURCE_1, SOURCE_2), listSources());
+
+    verify(decoratedConfigPersistence, times(1)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+    assertEquals(1, configPersistence.getListingCacheStats(ConfigSchema.STANDARD_SOURCE_DEFINITION).hitCount());
+  }
+
+  @Test
+  void testFilteredListingIsDelegatedUnlessListingIsCached() throws IOException, JsonValidationException {
+    final Map<String, Set<String>> fieldValues = Map.of("name", Set.of(SOURCE_2.getName()));
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class, fieldValues))
+        .thenReturn(List.of(SOURCE_2));
+
+    assertEquals(List.of(SOURCE_2),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class, fieldValues));
+    verify(decoratedConfigPersistence, times(1))
+        .listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class, fieldValues);
+
+    listSources();
+    assertEquals(List.of(SOURCE_2),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class, fieldValues));
+    verify(decoratedConfigPersistence, times(1))
+        .listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class, fieldValues);
+  }
+
+  @Test
+  void testWriteConfigInvalidatesConfigAndListing() throws IOException, JsonValidationException, ConfigNotFoundException {
+    getSource(UUID_1);
+    listSources();
+
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1);
+    getSource(UUID_1);
+    listSources();
+
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1);
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    verify(decoratedConfigPersistence, times(2)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testDeleteConfigInvalidatesConfigAndListing() throws IOException, JsonValidationException, ConfigNotFoundException {
+    getSource(UUID_1);
+    listSources();
+
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+    getSource(UUID_1);
+    listSources();
+
+    verify(decoratedConfigPersistence).deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    verify(decoratedConfigPersistence, times(2)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testWriteToOtherTypeKeepsCache() throws IOException, JsonValidationException, ConfigNotFoundException {
+    getSource(UUID_1);
+
+    configPersistence.writeConfig(ConfigSchema.STANDARD_WORKSPACE, UUID_2.toString(), SOURCE_2);
+    getSource(UUID_1);
+
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testReplaceAllConfigsInvalidatesEverything() throws IOException, JsonValidationException, ConfigNotFoundException {
+    getSource(UUID_1);
+
+    configPersistence.replaceAllConfigs(Collections.emptyMap(), true);
+    getSource(UUID_1);
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+
+    configPersistence.replaceAllConfigs(Collections.emptyMap(), false);
+    getSource(UUID_1);
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  private StandardSourceDefinition getSource(final UUID sourceDefinitionId) throws IOException, JsonValidationException, ConfigNotFoundException {
+    return configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefinitionId.toString(), StandardSourceDefinition.class);
+  }
+
+  private List<StandardSourceDefinition> listSources() throws IOException, JsonValidationException {
+    return configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+}
@@ -29,9 +29,14 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +69,23 @@ class ConfigRepositoryTest {
     assertReturnsWorkspace(new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withTombstone(true));
   }
 
+  @Test
+  void testListStandardSyncsForWorkspace() throws IOException, JsonValidationException {
+    final SourceConnection source = new SourceConnection().withSourceId(UUID.randomUUID()).withWorkspaceId(WORKSPACE_ID);
+    final StandardSync sync = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(source.getSourceId());
+    when(configPersistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class,
+        Map.of("workspaceId", Set.of(WORKSPACE_ID.toString()))))
+            .thenReturn(List.of(source));
+    final Map<String, Set<String>> sourceFilter = Map.of("sourceId", Set.of(source.getSourceId().toString()));
+    when(configPersistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class, sourceFilter, Map.of("status", Set.of("deprecated"))))
+        .thenReturn(List.of(sync));
+    when(configPersistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class, sourceFilter, Map.of()))
+        .thenReturn(List.of(sync));
+
+    assertEquals(List.of(sync), configRepository.listStandardSyncsForWorkspace(WORKSPACE_ID, false));
+    assertEquals(List.of(sync), configRepository.listStandardSyncsForWorkspace(WORKSPACE_ID, true));
+  }
+
   void assertReturnsWorkspace(StandardWorkspace workspace) throws ConfigNotFoundException, IOException, JsonValidationException {
     when(configPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, WORKSPACE_ID.toString(), StandardWorkspace.class)).thenReturn(workspace);
 
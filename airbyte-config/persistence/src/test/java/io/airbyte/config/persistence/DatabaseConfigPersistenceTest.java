@@ -24,8 +24,11 @@
 
 package io.airbyte.config.persistence;
 
+import static io.airbyte.db.instance.configs.jooq.Tables.AIRBYTE_CONFIGS;
+import static org.jooq.impl.DSL.asterisk;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -34,11 +37,14 @@ import io.airbyte.config.AirbyteConfig;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.DatabaseConfigPersistence.ConnectorInfo;
 import io.airbyte.db.instance.configs.ConfigsDatabaseInstance;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
@@ -124,6 +130,74 @@ public class DatabaseConfigPersistenceTest extends BaseDatabaseConfigPersistence
     assertSameConfigDump(expected, actual);
   }
 
+  @Test
+  public void testListConfigsWithFieldValues() throws Exception {
+    writeSource(configPersistence, SOURCE_GITHUB);
+    writeSource(configPersistence, SOURCE_POSTGRES);
+    writeDestination(configPersistence, DESTINATION_S3);
+
+    assertEquals(
+        List.of(SOURCE_GITHUB),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class,
+            Map.of("dockerRepository", Set.of(SOURCE_GITHUB.getDockerRepository()))));
+    assertEquals(
+        List.of(SOURCE_POSTGRES, SOURCE_GITHUB),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class,
+            Map.of("dockerRepository", Set.of(SOURCE_GITHUB.getDockerRepository(), SOURCE_POSTGRES.getDockerRepository()))));
+    assertEquals(
+        List.of(SOURCE_GITHUB),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class, Map.of(
+            "dockerRepository", Set.of(SOURCE_GITHUB.getDockerRepository(), SOURCE_POSTGRES.getDockerRepository()),
+            "sourceDefinitionId", Set.of(SOURCE_GITHUB.getSourceDefinitionId().toString()))));
+    // configs without the field and empty value sets match nothing.
+    assertEquals(
+        List.of(),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class,
+            Map.of("workspaceId", Set.of(UUID.randomUUID().toString()))));
+    assertEquals(
+        List.of(),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class,
+            Map.of("dockerRepository", Set.of())));
+  }
+
+  @Test
+  public void testListConfigsWithExcludedFieldValues() throws Exception {
+    final UUID sourceId = UUID.randomUUID();
+    final StandardSync activeSync = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(sourceId)
+        .withStatus(StandardSync.Status.ACTIVE);
+    final StandardSync deprecatedSync = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(sourceId)
+        .withStatus(StandardSync.Status.DEPRECATED);
+    final StandardSync syncWithoutStatus = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(sourceId);
+    for (final StandardSync sync : List.of(activeSync, deprecatedSync, syncWithoutStatus)) {
+      configPersistence.writeConfig(ConfigSchema.STANDARD_SYNC, sync.getConnectionId().toString(), sync);
+    }
+
+    // configs without the excluded field are kept.
+    final List<StandardSync> actual = configPersistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class,
+        Map.of("sourceId", Set.of(sourceId.toString())),
+        Map.of("status", Set.of(StandardSync.Status.DEPRECATED.value())));
+    assertEquals(Set.of(activeSync, syncWithoutStatus), Set.copyOf(actual));
+    assertEquals(2, actual.size());
+  }
+
+  @Test
+  public void testListConfigsWithFieldValuesUsesIndexes() throws Exception {
+    new ConfigsDatabaseMigrator(database, DatabaseConfigPersistenceTest.class.getSimpleName()).migrate();
+
+    // the table is too small for the planner to prefer the indexes on its own.
+    final String plan = database.transaction(ctx -> {
+      ctx.execute("SET LOCAL enable_seqscan = off");
+      return ctx.explain(ctx.select(asterisk())
+          .from(AIRBYTE_CONFIGS)
+          .where(
+              AIRBYTE_CONFIGS.CONFIG_TYPE.eq(ConfigSchema.SOURCE_CONNECTION.name()),
+              DatabaseConfigPersistence.configField("workspaceId").in(UUID.randomUUID().toString())))
+          .plan();
+    });
+
+    assertTrue(plan.contains("airbyte_configs_type_workspace_id_idx"), plan);
+  }
+
   @Test
   public void testGetConnectorRepositoryToInfoMap() throws Exception {
     String connectorRepository = "airbyte/duplicated-connector";
@@ -27,6 +27,7 @@ package io.airbyte.db;
 import java.sql.Date;
 import java.sql.SQLException;
 import java.text.DateFormat;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.function.Function;
@@ -34,6 +35,8 @@ import java.util.function.Function;
 public class DataTypeUtils {
 
   public static final DateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'"); // Quoted "Z" to indicate UTC, no timezone offset
+  // DateFormat is not thread safe, so concurrent reads each format with their own copy.
+  private static final ThreadLocal<DateFormat> THREAD_DATE_FORMAT = ThreadLocal.withInitial(() -> (DateFormat) DATE_FORMAT.clone());
 
   public static <T> T returnNullIfInvalid(DataTypeSupplier<T> valueProducer) {
     return returnNullIfInvalid(valueProducer, ignored -> true);
@@ -53,11 +56,15 @@ public class DataTypeUtils {
   }
 
   public static String toISO8601String(long epochMillis) {
-    return DATE_FORMAT.format(Date.from(Instant.ofEpochMilli(epochMillis)));
+    return THREAD_DATE_FORMAT.get().format(Date.from(Instant.ofEpochMilli(epochMillis)));
   }
 
   public static String toISO8601String(java.util.Date date) {
-    return DATE_FORMAT.format(date);
+    return THREAD_DATE_FORMAT.get().format(date);
+  }
+
+  public static java.util.Date fromISO8601String(String value) throws ParseException {
+    return THREAD_DATE_FORMAT.get().parse(value);
   }
 
 }
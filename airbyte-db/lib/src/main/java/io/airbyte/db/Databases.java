@@ -27,6 +27,7 @@ package io.airbyte.db;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.bigquery.BigQueryDatabase;
 import io.airbyte.db.jdbc.DefaultJdbcDatabase;
+import io.airbyte.db.jdbc.FetchSizeEstimator;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import io.airbyte.db.jdbc.StreamingJdbcDatabase;
@@ -137,12 +138,23 @@ public class Databases {
                                                          final String driverClassName,
                                                          final JdbcStreamingQueryConfiguration jdbcStreamingQuery,
                                                          final String connectionProperties) {
+    return createStreamingJdbcDatabase(username, password, jdbcConnectionString, driverClassName, jdbcStreamingQuery, connectionProperties,
+        FetchSizeEstimator.DEFAULT_TARGET_FETCH_BYTES);
+  }
+
+  public static JdbcDatabase createStreamingJdbcDatabase(final String username,
+                                                         final String password,
+                                                         final String jdbcConnectionString,
+                                                         final String driverClassName,
+                                                         final JdbcStreamingQueryConfiguration jdbcStreamingQuery,
+                                                         final String connectionProperties,
+                                                         final long targetFetchBytes) {
     final BasicDataSource connectionPool =
         createBasicDataSource(username, password, jdbcConnectionString, driverClassName, Optional.ofNullable(connectionProperties));
 
     final JdbcDatabase defaultJdbcDatabase =
         createJdbcDatabase(username, password, jdbcConnectionString, driverClassName, connectionProperties);
-    return new StreamingJdbcDatabase(connectionPool, defaultJdbcDatabase, jdbcStreamingQuery);
+    return new StreamingJdbcDatabase(connectionPool, defaultJdbcDatabase, jdbcStreamingQuery, targetFetchBytes);
   }
 
   private static BasicDataSource createBasicDataSource(final String username,
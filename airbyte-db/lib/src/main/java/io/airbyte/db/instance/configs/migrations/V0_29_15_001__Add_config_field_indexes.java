@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+/**
+ * This migration adds expression indexes on the config blob fields that the config lists are
+ * filtered by: the workspace of sources, destinations and operations, and the source and
+ * destination of connections. The expressions must stay identical to the ones used by the config
+ * persistence, otherwise the indexes are not used.
+ */
+public class V0_29_15_001__Add_config_field_indexes extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+
+    ctx.createIndexIfNotExists("airbyte_configs_type_workspace_id_idx")
+        .on(table("airbyte_configs"), field("config_type"), field("(config_blob ->> 'workspaceId')"))
+        .execute();
+
+    ctx.createIndexIfNotExists("airbyte_configs_type_source_id_idx")
+        .on(table("airbyte_configs"), field("config_type"), field("(config_blob ->> 'sourceId')"))
+        .execute();
+
+    ctx.createIndexIfNotExists("airbyte_configs_type_destination_id_idx")
+        .on(table("airbyte_configs"), field("config_type"), field("(config_blob ->> 'destinationId')"))
+        .execute();
+  }
+
+}
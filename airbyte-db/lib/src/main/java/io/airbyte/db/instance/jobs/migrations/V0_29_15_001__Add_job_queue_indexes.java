@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.condition;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+/**
+ * This migration adds the indexes used by the job queue queries of the scheduler:
+ * <ul>
+ * <li>the jobs of a connection, latest first (e.g. last replication job, current state).</li>
+ * <li>the pending jobs, oldest first (next job to run).</li>
+ * <li>the scopes that have a running or incomplete job (connections that cannot start a new
+ * job).</li>
+ * </ul>
+ * The partial indexes match the status predicates of the queries, so they have to be kept in sync.
+ */
+public class V0_29_15_001__Add_job_queue_indexes extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+
+    ctx.createIndexIfNotExists("jobs_scope_created_at_idx")
+        .on(table("jobs"), field("scope"), field("created_at"))
+        .execute();
+
+    ctx.createIndexIfNotExists("jobs_pending_created_at_idx")
+        .on(table("jobs"), field("created_at"))
+        .where(condition("status = 'pending'"))
+        .execute();
+
+    ctx.createIndexIfNotExists("jobs_active_scope_idx")
+        .on(table("jobs"), field("scope"))
+        .where(condition("status IN ('running', 'incomplete')"))
+        .execute();
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.db.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks the fetch size of a streamed query from the size of its first rows, so that each fetch
+ * holds roughly the same amount of data regardless of how wide the rows of the table are. The query
+ * starts with a small fetch size. Once that first batch has been read, its average row size is used
+ * to resize all later fetches to the target number of bytes. A new estimator must be used for each
+ * query.
+ */
+public class FetchSizeEstimator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FetchSizeEstimator.class);
+
+  public static final int INITIAL_FETCH_SIZE = 10;
+  /**
+   * Kept low because a source can have several queries open at once and each of them holds a full
+   * fetch in memory.
+   */
+  public static final long DEFAULT_TARGET_FETCH_BYTES = 10L * 1024 * 1024;
+  public static final int MIN_FETCH_SIZE = 1;
+  public static final int MAX_FETCH_SIZE = 100_000;
+
+  private final long targetFetchBytes;
+  private final int sampleSize;
+
+  private long sampledBytes;
+  private int sampledRows;
+
+  public FetchSizeEstimator() {
+    this(DEFAULT_TARGET_FETCH_BYTES);
+  }
+
+  public FetchSizeEstimator(final long targetFetchBytes) {
+    this(targetFetchBytes, INITIAL_FETCH_SIZE);
+  }
+
+  @VisibleForTesting
+  FetchSizeEstimator(final long targetFetchBytes, final int sampleSize) {
+    this.targetFetchBytes = targetFetchBytes;
+    this.sampleSize = sampleSize;
+    this.sampledBytes = 0;
+    this.sampledRows = 0;
+  }
+
+  /**
+   * Samples a row of the result set. After the rows of the first fetch have been sampled, sets the
+   * fetch size of the result set and of its statement (some drivers read it from one, some from the
+   * other).
+   *
+   * @param resultSet result set positioned on the row
+   * @param row the row after it was converted into a record
+   * @throws SQLException if the fetch size cannot be changed
+   */
+  public void accept(final ResultSet resultSet, final Object row) throws SQLException {
+    if (sampledRows >= sampleSize) {
+      return;
+    }
+
+    sampledBytes += estimateSize(row);
+    sampledRows++;
+    if (sampledRows == sampleSize) {
+      final int fetchSize = getFetchSize();
+      LOGGER.info("Set fetch size to {} rows based on an average row size of {} bytes", fetchSize, sampledBytes / sampledRows);
+      resultSet.setFetchSize(fetchSize);
+      if (resultSet.getStatement() != null) {
+        resultSet.getStatement().setFetchSize(fetchSize);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int getFetchSize() {
+    final long averageRowBytes = Math.max(1, sampledBytes / Math.max(1, sampledRows));
+    return (int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, targetFetchBytes / averageRowBytes));
+  }
+
+  /**
+   * The length of the string form of a record is a cheap stand-in for its size, e.g. for json
+   * records it is the length of the serialized record.
+   */
+  private static long estimateSize(final Object row) {
+    return row == null ? 0 : row.toString().length();
+  }
+
+}
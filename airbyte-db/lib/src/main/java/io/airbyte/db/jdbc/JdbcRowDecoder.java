@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.db.jdbc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.db.DataTypeUtils;
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts the rows of one {@link ResultSet} into json. The column names and a decoder for each
+ * column are looked up once from the {@link ResultSetMetaData} of the first row, instead of for
+ * each column of each row like {@link JdbcUtils#rowToJson}. Because of this, an instance must only
+ * be used for a single result set (or result sets with the same columns). Sources can replace the
+ * decoder of a {@link JDBCType} by passing their own {@link ColumnDecoder}s.
+ */
+public class JdbcRowDecoder implements CheckedFunction<ResultSet, JsonNode, SQLException> {
+
+  /**
+   * Reads a column of the current row of a result set and puts it into the record. SQL null values
+   * must be left out of the record.
+   */
+  @FunctionalInterface
+  public interface ColumnDecoder {
+
+    void decode(ResultSet resultSet, int index, String columnName, ObjectNode record) throws SQLException;
+
+  }
+
+  private final Map<JDBCType, ColumnDecoder> overrides;
+
+  private String[] columnNames;
+  private ColumnDecoder[] columnDecoders;
+  private int recordCapacity;
+
+  public JdbcRowDecoder() {
+    this(Collections.emptyMap());
+  }
+
+  public JdbcRowDecoder(final Map<JDBCType, ColumnDecoder> overrides) {
+    this.overrides = overrides;
+  }
+
+  @Override
+  public JsonNode apply(final ResultSet resultSet) throws SQLException {
+    if (columnDecoders == null) {
+      compile(resultSet.getMetaData());
+    }
+
+    final ObjectNode record = new ObjectNode(JsonNodeFactory.instance, new LinkedHashMap<>(recordCapacity));
+    for (int i = 0; i < columnDecoders.length; i++) {
+      columnDecoders[i].decode(resultSet, i + 1, columnNames[i], record);
+    }
+    return record;
+  }
+
+  private void compile(final ResultSetMetaData metaData) throws SQLException {
+    final int columnCount = metaData.getColumnCount();
+    columnNames = new String[columnCount];
+    columnDecoders = new ColumnDecoder[columnCount];
+    for (int i = 1; i <= columnCount; i++) {
+      final JDBCType columnType = safeGetJdbcType(metaData.getColumnType(i));
+      columnNames[i - 1] = metaData.getColumnName(i);
+      columnDecoders[i - 1] = overrides.getOrDefault(columnType, getDefaultColumnDecoder(columnType));
+    }
+    // sized so that a record with all columns set does not need to resize its map.
+    recordCapacity = (int) (columnCount / 0.75f) + 1;
+  }
+
+  static JDBCType safeGetJdbcType(final int columnTypeInt) {
+    try {
+      return JDBCType.valueOf(columnTypeInt);
+    } catch (final Exception e) {
+      return JDBCType.VARCHAR;
+    }
+  }
+
+  /**
+   * Each decoder does the typed get first and only then checks for null, so that every column is
+   * only read once. Values that fail to convert or have no json equivalent (e.g. Infinity, NaN) are
+   * set to null. Column types without a typed getter keep the null check through
+   * {@link ResultSet#getObject(int)} that {@link JdbcUtils#rowToJson} always did, because some
+   * drivers only report null for them after the generic get.
+   */
+  public static ColumnDecoder getDefaultColumnDecoder(final JDBCType columnType) {
+    // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
+    return switch (columnType) {
+      case BIT, BOOLEAN -> (r, i, name, o) -> {
+        final boolean value = r.getBoolean(i);
+        if (!r.wasNull()) {
+          o.put(name, value);
+        }
+      };
+      case TINYINT, SMALLINT -> (r, i, name, o) -> {
+        final short value = r.getShort(i);
+        if (!r.wasNull()) {
+          o.put(name, value);
+        }
+      };
+      case INTEGER -> JdbcRowDecoder::decodeInteger;
+      case BIGINT -> (r, i, name, o) -> {
+        final long value;
+        try {
+          value = r.getLong(i);
+        } catch (final SQLException e) {
+          o.putNull(name);
+          return;
+        }
+        if (!r.wasNull()) {
+          o.put(name, value);
+        }
+      };
+      case FLOAT, DOUBLE -> (r, i, name, o) -> {
+        final double value;
+        try {
+          value = r.getDouble(i);
+        } catch (final SQLException e) {
+          o.putNull(name);
+          return;
+        }
+        if (!r.wasNull()) {
+          o.put(name, Double.isFinite(value) ? value : null);
+        }
+      };
+      case REAL -> (r, i, name, o) -> {
+        final float value;
+        try {
+          value = r.getFloat(i);
+        } catch (final SQLException e) {
+          o.putNull(name);
+          return;
+        }
+        if (!r.wasNull()) {
+          o.put(name, Float.isFinite(value) ? value : null);
+        }
+      };
+      case NUMERIC, DECIMAL -> (r, i, name, o) -> {
+        final BigDecimal value;
+        try {
+          value = r.getBigDecimal(i);
+        } catch (final SQLException e) {
+          o.putNull(name);
+          return;
+        }
+        if (value != null) {
+          o.put(name, value);
+        }
+      };
+      case DATE -> (r, i, name, o) -> {
+        final java.sql.Date value = r.getDate(i);
+        if (value != null) {
+          o.put(name, DataTypeUtils.toISO8601String(value));
+        }
+      };
+      case TIME -> (r, i, name, o) -> {
+        final java.sql.Time value = r.getTime(i);
+        if (value != null) {
+          o.put(name, DataTypeUtils.toISO8601String(value));
+        }
+      };
+      case TIMESTAMP -> (r, i, name, o) -> {
+        final Timestamp value = r.getTimestamp(i);
+        if (value != null) {
+          // keep the millisecond precision of the timestamp, see the mapping link above.
+          o.put(name, DataTypeUtils.toISO8601String(new java.util.Date(value.getTime() + (value.getNanos() / 1000000))));
+        }
+      };
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> (r, i, name, o) -> {
+        final byte[] value = r.getBytes(i);
+        if (value != null) {
+          o.put(name, value);
+        }
+      };
+      case CHAR, VARCHAR, LONGVARCHAR -> (r, i, name, o) -> {
+        final String value = r.getString(i);
+        if (value != null) {
+          o.put(name, value);
+        }
+      };
+      default -> (r, i, name, o) -> {
+        r.getObject(i);
+        if (!r.wasNull()) {
+          o.put(name, r.getString(i));
+        }
+      };
+    };
+  }
+
+  /**
+   * In some sources Integer might have value larger than {@link Integer#MAX_VALUE}. E.q. MySQL has
+   * unsigned Integer type, which can contain value 3428724653. If we fail to cast Integer value, we
+   * will try to cast Long.
+   */
+  private static void decodeInteger(final ResultSet resultSet, final int index, final String columnName, final ObjectNode record)
+      throws SQLException {
+    try {
+      final int value = resultSet.getInt(index);
+      if (!resultSet.wasNull()) {
+        record.put(columnName, value);
+      }
+    } catch (final SQLException e) {
+      record.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> resultSet.getLong(index)));
+    }
+  }
+
+}
@@ -28,7 +28,19 @@ import io.airbyte.commons.functional.CheckedBiConsumer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
 
 public interface JdbcStreamingQueryConfiguration extends CheckedBiConsumer<Connection, PreparedStatement, SQLException> {
 
+  /**
+   * Creates the estimator that resizes the fetches of a single query based on its first rows.
+   *
+   * @param targetFetchBytes approximate number of bytes that each fetch should hold
+   * @return the estimator, or empty to keep the fetch size that was set when the statement was
+   *         configured.
+   */
+  default Optional<FetchSizeEstimator> createFetchSizeEstimator(final long targetFetchBytes) {
+    return Optional.empty();
+  }
+
 }
@@ -35,6 +35,7 @@ import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -83,80 +84,28 @@ public class JdbcUtils {
    * @throws SQLException exceptions throws when parsing the ResultSet.
    */
   public static Stream<JsonNode> toJsonStream(ResultSet resultSet) throws SQLException {
-    return toStream(resultSet, JdbcUtils::rowToJson);
+    return toStream(resultSet, new JdbcRowDecoder());
   }
 
+  /**
+   * Converts the current row of a result set into json. This looks up the metadata of each column for
+   * every row, prefer a {@link JdbcRowDecoder} when converting all rows of a result set.
+   */
   public static JsonNode rowToJson(ResultSet r) throws SQLException {
     // the first call communicates with the database. after that the result is cached.
-    final int columnCount = r.getMetaData().getColumnCount();
+    final ResultSetMetaData metaData = r.getMetaData();
+    final int columnCount = metaData.getColumnCount();
     final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
 
     for (int i = 1; i <= columnCount; i++) {
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-      r.getObject(i);
-      if (r.wasNull()) {
-        continue;
-      }
-
       // convert to java types that will convert into reasonable json.
-      setJsonField(r, i, jsonNode);
+      JdbcRowDecoder.getDefaultColumnDecoder(JdbcRowDecoder.safeGetJdbcType(metaData.getColumnType(i)))
+          .decode(r, i, metaData.getColumnName(i), jsonNode);
     }
 
     return jsonNode;
   }
 
-  private static JDBCType safeGetJdbcType(int columnTypeInt) {
-    try {
-      return JDBCType.valueOf(columnTypeInt);
-    } catch (Exception e) {
-      return JDBCType.VARCHAR;
-    }
-  }
-
-  private static void setJsonField(ResultSet r, int i, ObjectNode o) throws SQLException {
-    final int columnTypeInt = r.getMetaData().getColumnType(i);
-    final String columnName = r.getMetaData().getColumnName(i);
-    final JDBCType columnType = safeGetJdbcType(columnTypeInt);
-
-    // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> o.put(columnName, r.getBoolean(i));
-      case TINYINT, SMALLINT -> o.put(columnName, r.getShort(i));
-      case INTEGER -> putInteger(o, columnName, r, i);
-      case BIGINT -> o.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> r.getLong(i)));
-      case FLOAT, DOUBLE -> o.put(columnName, DataTypeUtils
-          .returnNullIfInvalid(() -> r.getDouble(i), Double::isFinite));
-      case REAL -> o.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> r.getFloat(i), Float::isFinite));
-      case NUMERIC, DECIMAL -> o.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> r.getBigDecimal(i)));
-      case CHAR, VARCHAR, LONGVARCHAR -> o.put(columnName, r.getString(i));
-      case DATE -> o.put(columnName, DataTypeUtils.toISO8601String(r.getDate(i)));
-      case TIME -> o.put(columnName, DataTypeUtils.toISO8601String(r.getTime(i)));
-      case TIMESTAMP -> {
-        // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-        final Timestamp t = r.getTimestamp(i);
-        java.util.Date d = new java.util.Date(t.getTime() + (t.getNanos() / 1000000));
-        o.put(columnName, DataTypeUtils.toISO8601String(d));
-      }
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> o.put(columnName, r.getBytes(i));
-      default -> o.put(columnName, r.getString(i));
-    }
-  }
-
-  /**
-   * In some sources Integer might have value larger than {@link Integer#MAX_VALUE}. E.q. MySQL has
-   * unsigned Integer type, which can contain value 3428724653. If we fail to cast Integer value, we
-   * will try to cast Long.
-   */
-  private static void putInteger(ObjectNode node, String columnName, ResultSet resultSet, int index) {
-    try {
-      node.put(columnName, resultSet.getInt(index));
-    } catch (SQLException e) {
-      node.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> resultSet.getLong(index)));
-    }
-  }
-
   // todo (cgardens) - move generic date helpers to commons.
 
   public static void setStatementField(PreparedStatement preparedStatement,
@@ -172,7 +121,7 @@ public class JdbcUtils {
       case TIME, TIMESTAMP -> {
         try {
           preparedStatement.setTimestamp(parameterIndex, Timestamp.from(
-              DataTypeUtils.DATE_FORMAT.parse(value).toInstant()));
+              DataTypeUtils.fromISO8601String(value).toInstant()));
         } catch (ParseException e) {
           throw new RuntimeException(e);
         }
@@ -180,7 +129,7 @@ public class JdbcUtils {
 
       case DATE -> {
         try {
-          Timestamp from = Timestamp.from(DataTypeUtils.DATE_FORMAT.parse(value).toInstant());
+          Timestamp from = Timestamp.from(DataTypeUtils.fromISO8601String(value).toInstant());
           preparedStatement.setDate(parameterIndex, new Date(from.getTime()));
         } catch (ParseException e) {
           throw new RuntimeException(e);
@@ -24,16 +24,6 @@
 
 package io.airbyte.db.jdbc;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-
-public class OracleJdbcStreamingQueryConfiguration implements JdbcStreamingQueryConfiguration {
-
-  @Override
-  public void accept(Connection connection, PreparedStatement preparedStatement) throws SQLException {
-    connection.setAutoCommit(false);
-    preparedStatement.setFetchSize(1000);
-  }
+public class OracleJdbcStreamingQueryConfiguration extends AdaptiveJdbcStreamingQueryConfiguration {
 
 }
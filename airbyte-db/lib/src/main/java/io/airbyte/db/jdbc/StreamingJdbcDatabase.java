@@ -32,6 +32,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 
@@ -45,11 +46,25 @@ public class StreamingJdbcDatabase extends JdbcDatabase {
   private final DataSource dataSource;
   private final JdbcDatabase database;
   private final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
+  private final long targetFetchBytes;
 
   public StreamingJdbcDatabase(DataSource dataSource, JdbcDatabase database, JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration) {
+    this(dataSource, database, jdbcStreamingQueryConfiguration, FetchSizeEstimator.DEFAULT_TARGET_FETCH_BYTES);
+  }
+
+  /**
+   * @param targetFetchBytes approximate number of bytes that each fetch of a query should hold, if
+   *        the {@link JdbcStreamingQueryConfiguration} adapts the fetch size. See
+   *        {@link FetchSizeEstimator}.
+   */
+  public StreamingJdbcDatabase(DataSource dataSource,
+                               JdbcDatabase database,
+                               JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration,
+                               long targetFetchBytes) {
     this.dataSource = dataSource;
     this.database = database;
     this.jdbcStreamingQueryConfiguration = jdbcStreamingQueryConfiguration;
+    this.targetFetchBytes = targetFetchBytes;
   }
 
   @Override
@@ -101,7 +116,13 @@ public class StreamingJdbcDatabase extends JdbcDatabase {
       final PreparedStatement ps = statementCreator.apply(connection);
       // allow configuration of connection and prepared statement to make streaming possible.
       jdbcStreamingQueryConfiguration.accept(connection, ps);
-      return JdbcUtils.toStream(ps.executeQuery(), recordTransform)
+      final Optional<FetchSizeEstimator> fetchSizeEstimator = jdbcStreamingQueryConfiguration.createFetchSizeEstimator(targetFetchBytes);
+      final CheckedFunction<ResultSet, T, SQLException> transform = fetchSizeEstimator.isEmpty() ? recordTransform : resultSet -> {
+        final T record = recordTransform.apply(resultSet);
+        fetchSizeEstimator.get().accept(resultSet, record);
+        return record;
+      };
+      return JdbcUtils.toStream(ps.executeQuery(), transform)
           .onClose(() -> {
             try {
               connection.setAutoCommit(true);
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FetchSizeEstimatorTest {
+
+  private ResultSet resultSet;
+  private Statement statement;
+
+  @BeforeEach
+  void setup() throws SQLException {
+    resultSet = mock(ResultSet.class);
+    statement = mock(Statement.class);
+    when(resultSet.getStatement()).thenReturn(statement);
+  }
+
+  @Test
+  void testSetsFetchSizeAfterSample() throws SQLException {
+    final FetchSizeEstimator estimator = new FetchSizeEstimator(1000, 2);
+
+    estimator.accept(resultSet, "0123456789");
+    verify(resultSet, never()).setFetchSize(anyInt());
+
+    estimator.accept(resultSet, "0123456789");
+    verify(resultSet).setFetchSize(100);
+    verify(statement).setFetchSize(100);
+
+    // later rows do not change the fetch size anymore.
+    estimator.accept(resultSet, "0");
+    verify(resultSet).setFetchSize(anyInt());
+  }
+
+  @Test
+  void testFetchSizeIsBounded() throws SQLException {
+    final FetchSizeEstimator wideRows = new FetchSizeEstimator(10, 1);
+    wideRows.accept(resultSet, "0123456789".repeat(10));
+    assertEquals(FetchSizeEstimator.MIN_FETCH_SIZE, wideRows.getFetchSize());
+
+    final FetchSizeEstimator narrowRows = new FetchSizeEstimator(Long.MAX_VALUE, 1);
+    narrowRows.accept(resultSet, "0");
+    assertEquals(FetchSizeEstimator.MAX_FETCH_SIZE, narrowRows.getFetchSize());
+  }
+
+}
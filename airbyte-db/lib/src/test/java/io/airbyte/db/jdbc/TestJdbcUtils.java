@@ -128,7 +128,52 @@ public class TestJdbcUtils {
     }
   }
 
+  @Test
+  void testRowDecoder() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      final ResultSet rs = connection.createStatement().executeQuery("SELECT * FROM id_and_name;");
+      final List<JsonNode> actual = JdbcUtils.toStream(rs, new JdbcRowDecoder()).collect(Collectors.toList());
+      assertEquals(RECORDS_AS_JSON, actual);
+    }
+  }
+
+  @Test
+  void testRowDecoderOmitsNullColumns() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      connection.createStatement().execute("INSERT INTO id_and_name (id, name) VALUES (4, NULL), (NULL, 'janeway');");
+      final ResultSet rs = connection.createStatement().executeQuery("SELECT * FROM id_and_name WHERE id = 4 OR id IS NULL ORDER BY id;");
+      final List<JsonNode> actual = JdbcUtils.toStream(rs, new JdbcRowDecoder()).collect(Collectors.toList());
+      assertEquals(List.of(Jsons.jsonNode(ImmutableMap.of("id", 4)), Jsons.jsonNode(ImmutableMap.of("name", "janeway"))), actual);
+    }
+  }
+
+  @Test
+  void testRowDecoderOverride() throws SQLException {
+    final JdbcRowDecoder rowDecoder = new JdbcRowDecoder(ImmutableMap.of(
+        JDBCType.VARCHAR, (resultSet, index, columnName, record) -> record.put(columnName, resultSet.getString(index).toUpperCase())));
+    try (final Connection connection = dataSource.getConnection()) {
+      final ResultSet rs = connection.createStatement().executeQuery("SELECT * FROM id_and_name;");
+      rs.next();
+      assertEquals(Jsons.jsonNode(ImmutableMap.of("id", 1, "name", "PICARD")), rowDecoder.apply(rs));
+    }
+  }
+
   // test conversion of every JDBCType that we support to Json.
+  @Test
+  void testRowDecoderFallbackTypes() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      connection.createStatement().execute("CREATE TABLE fallback_types (id INTEGER, uuid UUID, json JSON, int_array INTEGER[]);");
+      connection.createStatement().execute("INSERT INTO fallback_types (id, uuid, json, int_array) VALUES "
+          + "(1, 'a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11', '{\"a\": 1}', '{1,2}'), (2, NULL, NULL, NULL);");
+      final ResultSet rs = connection.createStatement().executeQuery("SELECT * FROM fallback_types ORDER BY id;");
+      final List<JsonNode> actual = JdbcUtils.toStream(rs, new JdbcRowDecoder()).collect(Collectors.toList());
+      final List<JsonNode> expected = List.of(
+          Jsons.jsonNode(ImmutableMap.of("id", 1, "uuid", "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11", "json", "{\"a\": 1}", "int_array", "{1,2}")),
+          Jsons.jsonNode(ImmutableMap.of("id", 2)));
+      assertEquals(expected, actual);
+    }
+  }
+
   @Test
   void testSetJsonField() throws SQLException {
     try (final Connection connection = dataSource.getConnection()) {
@@ -263,6 +308,7 @@ public class TestJdbcUtils {
     // field-wise comparison to make debugging easier.
     MoreStreams.toStream(expected.fields()).forEach(e -> assertEquals(e.getValue(), actual.get(e.getKey()), "key: " + e.getKey()));
     assertEquals(expected, actual);
+    assertEquals(expected, new JdbcRowDecoder().apply(resultSet));
   }
 
   private static void assertExpectedOutputTypes(Connection connection) throws SQLException {
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads newline delimited {@link AirbyteMessage}s (https://jsonlines.org/) from an input stream.
+ * Lines are split directly on a reusable byte buffer and each line is decoded by Jackson from the
+ * bytes into an {@link AirbyteMessage}, without building an intermediate String or JsonNode per
+ * message. Both '\r' and '\n' delimit lines and empty lines are skipped. Lines that are not valid
+ * messages are logged and skipped.
+ */
+public class AirbyteMessageStreamReader {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteMessageStreamReader.class);
+
+  public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+  private static final ObjectReader MESSAGE_READER = MoreMappers.initMapper().readerFor(AirbyteMessage.class);
+
+  private final InputStream input;
+  private byte[] buffer;
+  // [lineStart, end) holds bytes read from the input that have not been consumed yet.
+  private int lineStart;
+  private int end;
+
+  public AirbyteMessageStreamReader(final InputStream input) {
+    this(input, DEFAULT_BUFFER_SIZE);
+  }
+
+  @VisibleForTesting
+  AirbyteMessageStreamReader(final InputStream input, final int bufferSize) {
+    Preconditions.checkArgument(bufferSize > 0, "bufferSize must be positive");
+    this.input = input;
+    this.buffer = new byte[bufferSize];
+    this.lineStart = 0;
+    this.end = 0;
+  }
+
+  /**
+   * Passes every message of the input to the consumer, in order, until the end of the input.
+   *
+   * @param consumer - consumer of messages. exceptions thrown by it are propagated and stop the read.
+   * @throws E - if the consumer fails
+   * @throws IOException - if reading from the input fails
+   */
+  public <E extends Exception> void forEachMessage(final CheckedConsumer<AirbyteMessage, E> consumer) throws E, IOException {
+    int scanFrom = lineStart;
+    while (true) {
+      // consume every complete line in the buffer.
+      for (int i = scanFrom; i < end; i++) {
+        final byte b = buffer[i];
+        if (b == '\n' || b == '\r') {
+          acceptLine(lineStart, i - lineStart, consumer);
+          lineStart = i + 1;
+        }
+      }
+
+      final int read = fill();
+      if (read < 0) {
+        // the last line does not have to be terminated.
+        acceptLine(lineStart, end - lineStart, consumer);
+        lineStart = end;
+        return;
+      }
+      // only the newly read bytes can contain a delimiter.
+      scanFrom = end - read;
+    }
+  }
+
+  /**
+   * Reads more bytes into the buffer, keeping the unconsumed partial line. The partial line is moved
+   * to the start of the buffer and the buffer is doubled when a single line does not fit in it.
+   *
+   * @return the number of bytes read, or -1 if the input is exhausted
+   */
+  private int fill() throws IOException {
+    final int pending = end - lineStart;
+    if (lineStart > 0) {
+      System.arraycopy(buffer, lineStart, buffer, 0, pending);
+      lineStart = 0;
+      end = pending;
+    }
+    if (end == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    final int read = input.read(buffer, end, buffer.length - end);
+    if (read > 0) {
+      end += read;
+    }
+    return read;
+  }
+
+  private <E extends Exception> void acceptLine(final int offset, final int length, final CheckedConsumer<AirbyteMessage, E> consumer)
+      throws E {
+    if (length == 0) {
+      return;
+    }
+
+    final AirbyteMessage message;
+    try {
+      message = MESSAGE_READER.readValue(buffer, offset, length);
+    } catch (final IOException e) {
+      LOGGER.error("Received invalid message: " + new String(buffer, offset, length, StandardCharsets.UTF_8));
+      return;
+    }
+    consumer.accept(message);
+  }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Writes {@link AirbyteMessage}s as newline delimited json (https://jsonlines.org/) to an output
+ * stream. The messages are serialized on a dedicated thread, so that the source can keep fetching
+ * records while the previous ones are serialized.
+ * <p/>
+ * The serialized messages are buffered and only written to the output stream once the buffer
+ * reaches its size threshold or after a state message, so that a state is never held back behind
+ * the records it covers. Only whole lines are written, so that the messages do not get interleaved
+ * with other writers of the same stream (e.g. the logger writing to stdout).
+ */
+public class AirbyteMessageStreamWriter implements Consumer<AirbyteMessage>, AutoCloseable {
+
+  public static final int DEFAULT_FLUSH_THRESHOLD_BYTES = 1024 * 1024;
+  public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+  private static final long QUEUE_POLL_MILLIS = 100;
+  private static final AirbyteMessage END_OF_STREAM = new AirbyteMessage();
+
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  // lines are separated explicitly, so that a line is complete as soon as its message is written. the
+  // generator is only flushed when the buffer is written out.
+  private static final ObjectWriter MESSAGE_WRITER = MAPPER.writerFor(AirbyteMessage.class)
+      .withRootValueSeparator("")
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  private final OutputStream output;
+  private final int flushThresholdBytes;
+  private final BlockingQueue<AirbyteMessage> queue;
+  private final AtomicReference<Exception> failure;
+  private final ExecutorService executor;
+  private final Future<?> worker;
+
+  public AirbyteMessageStreamWriter(final OutputStream output) {
+    this(output, DEFAULT_FLUSH_THRESHOLD_BYTES, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  @VisibleForTesting
+  AirbyteMessageStreamWriter(final OutputStream output, final int flushThresholdBytes, final int queueCapacity) {
+    Preconditions.checkArgument(flushThresholdBytes > 0, "flushThresholdBytes must be positive");
+    this.output = output;
+    this.flushThresholdBytes = flushThresholdBytes;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.failure = new AtomicReference<>();
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "airbyte-message-writer");
+      // do not keep the integration alive if it exits without closing the writer
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.worker = executor.submit(() -> {
+      writeQueuedMessages();
+      return null;
+    });
+  }
+
+  /**
+   * Hands the message over to the writer thread. Blocks while the queue of messages waiting to be
+   * written is full.
+   *
+   * @param message message to write
+   */
+  @Override
+  public void accept(final AirbyteMessage message) {
+    try {
+      while (!queue.offer(message, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        throwIfFailed();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the messages to be written", e);
+    }
+    throwIfFailed();
+  }
+
+  /**
+   * Writes all the messages handed over to this writer and flushes the output stream. The output
+   * stream itself is not closed.
+   */
+  @Override
+  public void close() throws Exception {
+    try {
+      while (!queue.offer(END_OF_STREAM, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (worker.isDone()) {
+          break;
+        }
+      }
+      worker.get();
+    } catch (final ExecutionException e) {
+      failure.compareAndSet(null, e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (failure.get() != null) {
+      throw new IOException("Failed to write messages", failure.get());
+    }
+  }
+
+  private void writeQueuedMessages() throws IOException, InterruptedException {
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream(flushThresholdBytes + flushThresholdBytes / 4);
+    final List<AirbyteMessage> batch = new ArrayList<>();
+    try (final JsonGenerator generator = MAPPER.getFactory().createGenerator(buffer)) {
+      // the generator must not close the buffer on our behalf
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      while (true) {
+        // take whatever is queued at once, rather than waking up for every message
+        batch.add(queue.take());
+        queue.drainTo(batch);
+        for (final AirbyteMessage message : batch) {
+          if (message == END_OF_STREAM) {
+            generator.flush();
+            writeBuffer(buffer);
+            return;
+          }
+
+          MESSAGE_WRITER.writeValue(generator, message);
+          generator.writeRaw('\n');
+          if (message.getType() == Type.STATE || buffer.size() + generator.getOutputBuffered() >= flushThresholdBytes) {
+            generator.flush();
+            writeBuffer(buffer);
+          }
+        }
+        batch.clear();
+      }
+    } catch (final Exception e) {
+      failure.compareAndSet(null, e);
+      throw e;
+    }
+  }
+
+  private void writeBuffer(final ByteArrayOutputStream buffer) throws IOException {
+    if (buffer.size() > 0) {
+      buffer.writeTo(output);
+      buffer.reset();
+    }
+    output.flush();
+  }
+
+  private void throwIfFailed() {
+    if (failure.get() != null) {
+      throw new RuntimeException("Failed to write messages", failure.get());
+    }
+  }
+
+}
@@ -37,7 +37,6 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -57,6 +56,9 @@ public class IntegrationRunner {
   private final Integration integration;
   private final Destination destination;
   private final Source source;
+  // when set, the messages of READ are written to stdout by a dedicated writer instead of the
+  // outputRecordCollector.
+  private final boolean writeReadToStdout;
   private static JsonSchemaValidator validator;
 
   public IntegrationRunner(Destination destination) {
@@ -64,7 +66,7 @@ public class IntegrationRunner {
   }
 
   public IntegrationRunner(Source source) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source);
+    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source, true);
   }
 
   @VisibleForTesting
@@ -72,6 +74,14 @@ public class IntegrationRunner {
                     Consumer<AirbyteMessage> outputRecordCollector,
                     Destination destination,
                     Source source) {
+    this(cliParser, outputRecordCollector, destination, source, false);
+  }
+
+  private IntegrationRunner(IntegrationCliParser cliParser,
+                            Consumer<AirbyteMessage> outputRecordCollector,
+                            Destination destination,
+                            Source source,
+                            boolean writeReadToStdout) {
     Preconditions.checkState(destination != null ^ source != null, "can only pass in a destination or a source");
     this.cliParser = cliParser;
     this.outputRecordCollector = outputRecordCollector;
@@ -79,6 +89,7 @@ public class IntegrationRunner {
     this.integration = source != null ? source : destination;
     this.source = source;
     this.destination = destination;
+    this.writeReadToStdout = writeReadToStdout;
     validator = new JsonSchemaValidator();
   }
 
@@ -135,8 +146,17 @@ public class IntegrationRunner {
         final ConfiguredAirbyteCatalog catalog = parseConfig(parsed.getCatalogPath(), ConfiguredAirbyteCatalog.class);
         final Optional<JsonNode> stateOptional = parsed.getStatePath().map(IntegrationRunner::parseConfig);
         final AutoCloseableIterator<AirbyteMessage> messageIterator = source.read(config, catalog, stateOptional.orElse(null));
-        try (messageIterator) {
-          messageIterator.forEachRemaining(outputRecordCollector::accept);
+        if (writeReadToStdout) {
+          // serializes the messages on a separate thread while the source fetches the next ones. the
+          // writer is closed after the iterator, so that everything read before a failure is still
+          // emitted.
+          try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(System.out); messageIterator) {
+            messageIterator.forEachRemaining(writer);
+          }
+        } else {
+          try (messageIterator) {
+            messageIterator.forEachRemaining(outputRecordCollector::accept);
+          }
         }
       }
       // destination only
@@ -155,20 +175,12 @@ public class IntegrationRunner {
 
   @VisibleForTesting
   static void consumeWriteStream(AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in).useDelimiter("[\r\n]+");
+    // only new line characters delimit messages to strictly abide with the https://jsonlines.org/
+    // standard
+    final AirbyteMessageStreamReader input = new AirbyteMessageStreamReader(System.in);
     try (consumer) {
       consumer.start();
-      while (input.hasNext()) {
-        final String inputString = input.next();
-        final Optional<AirbyteMessage> singerMessageOptional = Jsons.tryDeserialize(inputString, AirbyteMessage.class);
-        if (singerMessageOptional.isPresent()) {
-          consumer.accept(singerMessageOptional.get());
-        } else {
-          LOGGER.error("Received invalid message: " + inputString);
-        }
-      }
+      input.forEachMessage(consumer::accept);
     }
   }
 
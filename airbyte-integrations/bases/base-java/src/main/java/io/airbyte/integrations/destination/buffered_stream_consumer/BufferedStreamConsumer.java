@@ -37,11 +37,20 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -51,10 +60,10 @@ import org.slf4j.LoggerFactory;
  * This class consumes AirbyteMessages from the worker.
  *
  * <p>
- * Record Messages: It adds record messages to a buffer. Under 2 conditions, it will flush the
- * records in the buffer to a temporary table in the destination. Condition 1: The buffer fills up
- * (the buffer is designed to be small enough as not to exceed the memory of the container).
- * Condition 2: On close.
+ * Record Messages: It adds record messages to the buffer of their stream. Under 2 conditions, it
+ * will flush the records in a buffer to a temporary table in the destination. Condition 1: The
+ * buffer of the stream fills up (the buffer is designed to be small enough as not to exceed the
+ * memory of the container). Condition 2: On close.
  * </p>
  *
  * <p>
@@ -70,13 +79,13 @@ import org.slf4j.LoggerFactory;
  *
  * <p>
  * Throughout the lifecycle of the consumer, messages get promoted from buffered to flushed to
- * committed. A record message when it is received is immediately buffered. When the buffer fills
- * up, all buffered records are flushed out of memory using the user-provided recordWriter. When
- * this flush happens, a state message is moved from pending to flushed. On close, if the
- * user-provided onClose function is successful, then the flushed state record is considered
- * committed and is then emitted. We expect this class to only ever emit either 1 state message (in
- * the case of a full or partial success) or 0 state messages (in the case where the onClose step
- * was never reached or did not complete without exception).
+ * committed. A record message when it is received is immediately buffered. When the buffer of a
+ * stream fills up, its records are flushed out of memory using the user-provided recordWriter. When
+ * the records received before a state message are flushed, it is moved from pending to flushed. On
+ * close, if the user-provided onClose function is successful, then the flushed state record is
+ * considered committed and is then emitted. We expect this class to only ever emit either 1 state
+ * message (in the case of a full or partial success) or 0 state messages (in the case where the
+ * onClose step was never reached or did not complete without exception).
  * </p>
  *
  * <p>
@@ -89,27 +98,59 @@ import org.slf4j.LoggerFactory;
  * AND then copies from the temporary table into the final table. This abstraction is blind to that
  * detail as it implementation detail of how copy destinations implement close.
  * </p>
+ *
+ * <p>
+ * Besides the number of buffered records of each stream, the estimated size of all the buffered
+ * records is bounded. When the buffered records go over that size, the streams with the most
+ * buffered bytes are flushed first, until the buffer is down to half of the bound. A state message
+ * is moved from pending to flushed once every stream that had records buffered or being flushed
+ * when the state message was received has been flushed since. So that a stream that only receives
+ * a few records, and thus rarely fills its buffer, does not hold back the state for the whole sync,
+ * the streams that the oldest pending state waits on are flushed when too many state messages are
+ * pending or when the oldest one has been pending for too long.
+ * </p>
+ *
+ * <p>
+ * When the flush is asynchronous, the flushed records are handed over to a background thread and
+ * new records are buffered in the meantime. If the previous batch is still being flushed when the
+ * next one is handed over, the consumer waits for it, so at most two batches are held in memory.
+ * </p>
  */
 public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsumer implements AirbyteMessageConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BufferedStreamConsumer.class);
 
+  public static final long DEFAULT_MAX_BUFFER_BYTES = 25 * 1024 * 1024;
+  static final int MAX_PENDING_STATES = 10;
+  static final Duration MAX_PENDING_STATE_AGE = Duration.ofMinutes(15);
+
   private final VoidCallable onStart;
   private final RecordWriter recordWriter;
   private final CheckedConsumer<Boolean, Exception> onClose;
-  private final Set<AirbyteStreamNameNamespacePair> streamNames;
-  private final List<AirbyteMessage> buffer;
+  // streams of the catalog by namespace and name, so that records are matched to their stream
+  // without allocating a new pair for each of them
+  private final Map<String, Map<String, AirbyteStreamNameNamespacePair>> namespaceToStreamNames;
   private final ConfiguredAirbyteCatalog catalog;
   private final CheckedFunction<JsonNode, Boolean, Exception> isValidRecord;
   private final Map<AirbyteStreamNameNamespacePair, Long> pairToIgnoredRecordCount;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final int queueBatchSize;
+  private final long maxBufferBytes;
+  private final ExecutorService flushExecutor;
+  private final Map<AirbyteStreamNameNamespacePair, StreamBuffer> pairToBuffer;
+  // number of flushes of each stream that were handed over and that completed successfully
+  private final Map<AirbyteStreamNameNamespacePair, Long> pairToSubmittedFlushCount;
+  private final Map<AirbyteStreamNameNamespacePair, Long> pairToCompletedFlushCount;
+  private final Deque<PendingState> pendingStates;
 
   private boolean hasStarted;
   private boolean hasClosed;
 
   private AirbyteMessage lastFlushedState;
-  private AirbyteMessage pendingState;
+  private long bufferedBytes;
+  // the batch being flushed in the background
+  private Future<?> inFlightFlush;
+  private Set<AirbyteStreamNameNamespacePair> inFlightStreams;
 
   public BufferedStreamConsumer(Consumer<AirbyteMessage> outputRecordCollector,
                                 VoidCallable onStart,
@@ -118,19 +159,49 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
                                 ConfiguredAirbyteCatalog catalog,
                                 CheckedFunction<JsonNode, Boolean, Exception> isValidRecord,
                                 int queueBatchSize) {
+    this(outputRecordCollector, onStart, recordWriter, onClose, catalog, isValidRecord, queueBatchSize, DEFAULT_MAX_BUFFER_BYTES, false);
+  }
+
+  /**
+   * @param queueBatchSize number of buffered records of a stream after which they are flushed.
+   * @param maxBufferBytes bound of the estimated size of the records buffered for all streams.
+   * @param asyncFlush when true, the records are flushed on a background thread while the next
+   *        records are buffered.
+   */
+  public BufferedStreamConsumer(Consumer<AirbyteMessage> outputRecordCollector,
+                                VoidCallable onStart,
+                                RecordWriter recordWriter,
+                                CheckedConsumer<Boolean, Exception> onClose,
+                                ConfiguredAirbyteCatalog catalog,
+                                CheckedFunction<JsonNode, Boolean, Exception> isValidRecord,
+                                int queueBatchSize,
+                                long maxBufferBytes,
+                                boolean asyncFlush) {
     this.outputRecordCollector = outputRecordCollector;
     this.queueBatchSize = queueBatchSize;
+    this.maxBufferBytes = maxBufferBytes;
     this.hasStarted = false;
     this.hasClosed = false;
     this.onStart = onStart;
     this.recordWriter = recordWriter;
     this.onClose = onClose;
     this.catalog = catalog;
-    this.streamNames = AirbyteStreamNameNamespacePair.fromConfiguredCatalog(catalog);
+    this.namespaceToStreamNames = new HashMap<>();
+    for (final AirbyteStreamNameNamespacePair stream : AirbyteStreamNameNamespacePair.fromConfiguredCatalog(catalog)) {
+      namespaceToStreamNames.computeIfAbsent(stream.getNamespace(), k -> new HashMap<>()).put(stream.getName(), stream);
+    }
     this.isValidRecord = isValidRecord;
-    this.buffer = new ArrayList<>(queueBatchSize);
+    this.flushExecutor = asyncFlush ? Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "buffered-stream-consumer-flush");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
 
     this.pairToIgnoredRecordCount = new HashMap<>();
+    this.pairToBuffer = new HashMap<>();
+    this.pairToSubmittedFlushCount = new HashMap<>();
+    this.pairToCompletedFlushCount = new HashMap<>();
+    this.pendingStates = new ArrayDeque<>();
   }
 
   @Override
@@ -151,9 +222,9 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
     if (message.getType() == Type.RECORD) {
       final AirbyteRecordMessage recordMessage = message.getRecord();
-      final AirbyteStreamNameNamespacePair stream = AirbyteStreamNameNamespacePair.fromRecordMessage(recordMessage);
+      final AirbyteStreamNameNamespacePair stream = getStream(recordMessage);
 
-      if (!streamNames.contains(stream)) {
+      if (stream == null) {
         throwUnrecognizedStream(catalog, message);
       }
 
@@ -162,33 +233,157 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
         return;
       }
 
-      buffer.add(message);
+      final StreamBuffer streamBuffer = pairToBuffer.computeIfAbsent(stream, k -> new StreamBuffer());
+      final long recordBytes = RecordSizeEstimator.estimateBytes(recordMessage.getData());
+      streamBuffer.records.add(recordMessage);
+      streamBuffer.bytes += recordBytes;
+      bufferedBytes += recordBytes;
 
-      if (buffer.size() == queueBatchSize) {
-        flushQueueToDestination();
+      if (streamBuffer.records.size() >= queueBatchSize) {
+        flushStreams(Set.of(stream));
+      } else if (maxBufferBytes > 0 && bufferedBytes >= maxBufferBytes) {
+        flushLargestStreams();
       }
     } else if (message.getType() == Type.STATE) {
-      pendingState = message;
+      pendingStates.add(new PendingState(message, getFlushCountsToWaitFor()));
+      promoteFlushedStates();
+      if (!pendingStates.isEmpty()
+          && (pendingStates.size() > MAX_PENDING_STATES || pendingStates.peek().getAge().compareTo(MAX_PENDING_STATE_AGE) > 0)) {
+        flushStreamsPinningOldestState();
+      }
     } else {
       LOGGER.warn("Unexpected message: " + message.getType());
     }
 
   }
 
+  private AirbyteStreamNameNamespacePair getStream(AirbyteRecordMessage recordMessage) {
+    final Map<String, AirbyteStreamNameNamespacePair> streams = namespaceToStreamNames.get(recordMessage.getNamespace());
+    return streams == null ? null : streams.get(recordMessage.getStream());
+  }
+
   private void flushQueueToDestination() throws Exception {
-    final Map<AirbyteStreamNameNamespacePair, List<AirbyteRecordMessage>> recordsByStream = buffer.stream()
-        .map(AirbyteMessage::getRecord)
-        .collect(Collectors.groupingBy(AirbyteStreamNameNamespacePair::fromRecordMessage));
+    flushStreams(new HashSet<>(pairToBuffer.keySet()));
+  }
+
+  private void flushLargestStreams() throws Exception {
+    final List<AirbyteStreamNameNamespacePair> streamsBySize = pairToBuffer.entrySet().stream()
+        .sorted(Comparator.comparingLong((Map.Entry<AirbyteStreamNameNamespacePair, StreamBuffer> e) -> e.getValue().bytes).reversed())
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+
+    final Set<AirbyteStreamNameNamespacePair> streamsToFlush = new HashSet<>();
+    long remainingBytes = bufferedBytes;
+    for (final AirbyteStreamNameNamespacePair stream : streamsBySize) {
+      if (remainingBytes <= maxBufferBytes / 2) {
+        break;
+      }
+      streamsToFlush.add(stream);
+      remainingBytes -= pairToBuffer.get(stream).bytes;
+    }
+    LOGGER.info("Buffer reached {} bytes, flushing {} stream(s) with the most buffered bytes.", bufferedBytes, streamsToFlush.size());
+    flushStreams(streamsToFlush);
+  }
+
+  private void flushStreamsPinningOldestState() throws Exception {
+    final Map<AirbyteStreamNameNamespacePair, Long> flushCountsToWaitFor = pendingStates.peek().flushCountsToWaitFor;
+    // the streams whose records from before the state message have not been handed over yet.
+    final Set<AirbyteStreamNameNamespacePair> streamsToFlush = flushCountsToWaitFor.entrySet().stream()
+        .filter(e -> pairToSubmittedFlushCount.getOrDefault(e.getKey(), 0L) < e.getValue() && pairToBuffer.containsKey(e.getKey()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+    if (streamsToFlush.isEmpty()) {
+      return;
+    }
+    LOGGER.info("{} state message(s) are pending, flushing {} stream(s) the oldest one waits on.", pendingStates.size(), streamsToFlush.size());
+    flushStreams(streamsToFlush);
+  }
+
+  private void flushStreams(Set<AirbyteStreamNameNamespacePair> streams) throws Exception {
+    final Map<AirbyteStreamNameNamespacePair, List<AirbyteRecordMessage>> recordsByStream = new HashMap<>();
+    for (final AirbyteStreamNameNamespacePair stream : streams) {
+      final StreamBuffer streamBuffer = pairToBuffer.remove(stream);
+      recordsByStream.put(stream, streamBuffer.records);
+      bufferedBytes -= streamBuffer.bytes;
+      pairToSubmittedFlushCount.merge(stream, 1L, Long::sum);
+    }
+
+    if (flushExecutor == null) {
+      writeBatch(recordsByStream);
+      completeFlush(streams);
+      return;
+    }
+
+    // back-pressure: only one batch is flushed at a time while the next one is buffered.
+    awaitInFlightFlush();
+
+    inFlightStreams = streams;
+    inFlightFlush = flushExecutor.submit(() -> {
+      writeBatch(recordsByStream);
+      return null;
+    });
+  }
+
+  private void awaitInFlightFlush() throws Exception {
+    if (inFlightFlush == null) {
+      return;
+    }
 
-    buffer.clear();
+    try {
+      inFlightFlush.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    } finally {
+      inFlightFlush = null;
+    }
+
+    completeFlush(inFlightStreams);
+  }
 
+  private void writeBatch(Map<AirbyteStreamNameNamespacePair, List<AirbyteRecordMessage>> recordsByStream) throws Exception {
     for (Map.Entry<AirbyteStreamNameNamespacePair, List<AirbyteRecordMessage>> entry : recordsByStream.entrySet()) {
       recordWriter.accept(entry.getKey(), entry.getValue());
     }
+  }
 
-    if (pendingState != null) {
-      lastFlushedState = pendingState;
-      pendingState = null;
+  private void completeFlush(Set<AirbyteStreamNameNamespacePair> streams) {
+    for (final AirbyteStreamNameNamespacePair stream : streams) {
+      pairToCompletedFlushCount.merge(stream, 1L, Long::sum);
+    }
+    promoteFlushedStates();
+  }
+
+  /**
+   * @return for each stream with records that are buffered or being flushed, the number of
+   *         completed flushes after which all of its current records are flushed.
+   */
+  private Map<AirbyteStreamNameNamespacePair, Long> getFlushCountsToWaitFor() {
+    final Map<AirbyteStreamNameNamespacePair, Long> flushCounts = new HashMap<>();
+    pairToSubmittedFlushCount.forEach((stream, submitted) -> {
+      if (submitted > pairToCompletedFlushCount.getOrDefault(stream, 0L)) {
+        flushCounts.put(stream, submitted);
+      }
+    });
+    pairToBuffer.keySet()
+        .forEach(stream -> flushCounts.put(stream, pairToSubmittedFlushCount.getOrDefault(stream, 0L) + 1));
+    return flushCounts;
+  }
+
+  private void promoteFlushedStates() {
+    // a state message is only flushed when all the earlier ones are, so they are promoted in order.
+    while (!pendingStates.isEmpty() && pendingStates.peek().isFlushed(pairToCompletedFlushCount)) {
+      lastFlushedState = pendingStates.remove().state;
+    }
+  }
+
+  private void awaitInFlightFlushAfterFailure() {
+    try {
+      awaitInFlightFlush();
+    } catch (Exception e) {
+      LOGGER.error("Flush of the last batch failed.", e);
     }
   }
 
@@ -206,16 +401,25 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
     pairToIgnoredRecordCount
         .forEach((pair, count) -> LOGGER.warn("A total of {} record(s) of data from stream {} were invalid and were ignored.", count, pair));
-    if (hasFailed) {
-      LOGGER.error("executing on failed close procedure.");
-    } else {
-      LOGGER.info("executing on success close procedure.");
-      flushQueueToDestination();
+    try {
+      if (hasFailed) {
+        LOGGER.error("executing on failed close procedure.");
+        // the batch that was handed over before the failure can still move the state forward.
+        awaitInFlightFlushAfterFailure();
+      } else {
+        LOGGER.info("executing on success close procedure.");
+        flushQueueToDestination();
+        awaitInFlightFlush();
+      }
+    } finally {
+      if (flushExecutor != null) {
+        flushExecutor.shutdownNow();
+      }
     }
 
     try {
-      // if no state was was emitted (i.e. full refresh), if there were still no failures, then we can
-      // still succeed.
+      // if no state was was emitted (i.e. full refresh), if there were still no failures, then we
+      // can still succeed.
       if (lastFlushedState == null) {
         onClose.accept(hasFailed);
       } else {
@@ -223,8 +427,8 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
         onClose.accept(false);
       }
 
-      // if one close succeeds without exception then we can emit the state record because it means its
-      // records were not only flushed, but committed.
+      // if one close succeeds without exception then we can emit the state record because it means
+      // its records were not only flushed, but committed.
       if (lastFlushedState != null) {
         outputRecordCollector.accept(lastFlushedState);
       }
@@ -234,4 +438,34 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     }
   }
 
+  private static class StreamBuffer {
+
+    private final List<AirbyteRecordMessage> records = new ArrayList<>();
+    private long bytes = 0;
+
+  }
+
+  private static class PendingState {
+
+    private final AirbyteMessage state;
+    private final Map<AirbyteStreamNameNamespacePair, Long> flushCountsToWaitFor;
+    private final long receivedAtNanos;
+
+    private PendingState(AirbyteMessage state, Map<AirbyteStreamNameNamespacePair, Long> flushCountsToWaitFor) {
+      this.state = state;
+      this.flushCountsToWaitFor = flushCountsToWaitFor;
+      this.receivedAtNanos = System.nanoTime();
+    }
+
+    private Duration getAge() {
+      return Duration.ofNanos(System.nanoTime() - receivedAtNanos);
+    }
+
+    private boolean isFlushed(Map<AirbyteStreamNameNamespacePair, Long> completedFlushCounts) {
+      return flushCountsToWaitFor.entrySet().stream()
+          .allMatch(e -> completedFlushCounts.getOrDefault(e.getKey(), 0L) >= e.getValue());
+    }
+
+  }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.buffered_stream_consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Estimates the size of a record as the length of its json serialization, without serializing it.
+ * Strings are counted one byte per character, and numbers with a fixed length.
+ */
+class RecordSizeEstimator {
+
+  private static final int NUMBER_BYTES = 8;
+  private static final int BOOLEAN_BYTES = 5;
+  private static final int NULL_BYTES = 4;
+
+  static long estimateBytes(JsonNode node) {
+    if (node == null) {
+      return NULL_BYTES;
+    }
+
+    switch (node.getNodeType()) {
+      case OBJECT -> {
+        long bytes = 2;
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Map.Entry<String, JsonNode> field = fields.next();
+          // quotes, colon and comma around the field name
+          bytes += field.getKey().length() + 4 + estimateBytes(field.getValue());
+        }
+        return bytes;
+      }
+      case ARRAY -> {
+        long bytes = 2;
+        for (final JsonNode element : node) {
+          bytes += estimateBytes(element) + 1;
+        }
+        return bytes;
+      }
+      case STRING -> {
+        return node.textValue().length() + 2;
+      }
+      case NUMBER -> {
+        return NUMBER_BYTES;
+      }
+      case BOOLEAN -> {
+        return BOOLEAN_BYTES;
+      }
+      case BINARY -> {
+        // base64 encoded
+        return node.asText().length() + 2;
+      }
+      default -> {
+        return NULL_BYTES;
+      }
+    }
+  }
+
+}
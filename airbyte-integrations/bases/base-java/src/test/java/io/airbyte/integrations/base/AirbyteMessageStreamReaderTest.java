@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AirbyteMessageStreamReaderTest {
+
+  private static final AirbyteMessage RECORD_MESSAGE1 = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withStream("users")
+          .withData(Jsons.deserialize("{ \"name\": \"j\u00fcrgen\" }"))
+          .withEmittedAt(1L));
+  private static final AirbyteMessage RECORD_MESSAGE2 = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withStream("users")
+          .withData(Jsons.deserialize("{ \"name\": \"ana\" }"))
+          .withEmittedAt(2L));
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.deserialize("{ \"checkpoint\": \"1\" }")));
+
+  // small buffers force lines to span reads and the buffer to grow.
+  @ParameterizedTest
+  @ValueSource(ints = {1, 7, AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE})
+  void testReadsAllMessages(final int bufferSize) throws IOException {
+    final String input = Jsons.serialize(RECORD_MESSAGE1) + "\r\n"
+        + "\n"
+        + "not a message\n"
+        + Jsons.serialize(STATE_MESSAGE) + "\r"
+        + Jsons.serialize(RECORD_MESSAGE2);
+
+    assertEquals(List.of(RECORD_MESSAGE1, STATE_MESSAGE, RECORD_MESSAGE2), readAll(input, bufferSize));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE})
+  void testEmptyInput(final int bufferSize) throws IOException {
+    assertEquals(List.of(), readAll("", bufferSize));
+    assertEquals(List.of(), readAll("\n\r\n", bufferSize));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE})
+  void testConsumerFailureStopsRead(final int bufferSize) {
+    final String input = Jsons.serialize(RECORD_MESSAGE1) + "\n" + Jsons.serialize(RECORD_MESSAGE2) + "\n";
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    final AirbyteMessageStreamReader reader = new AirbyteMessageStreamReader(toInputStream(input), bufferSize);
+
+    assertThrows(IOException.class, () -> reader.forEachMessage(message -> {
+      messages.add(message);
+      throw new IOException("error");
+    }));
+    assertEquals(List.of(RECORD_MESSAGE1), messages);
+  }
+
+  private static List<AirbyteMessage> readAll(final String input, final int bufferSize) throws IOException {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    new AirbyteMessageStreamReader(toInputStream(input), bufferSize).forEachMessage(messages::add);
+    return messages;
+  }
+
+  private static ByteArrayInputStream toInputStream(final String input) {
+    return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageStreamWriterTest {
+
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.deserialize("{ \"checkpoint\": \"1\" }")));
+
+  @Test
+  void testWritesMessagesAsLines() throws Exception {
+    final List<AirbyteMessage> messages = List.of(record(1), record(2), STATE_MESSAGE, record(3));
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output)) {
+      messages.forEach(writer);
+    }
+
+    final List<AirbyteMessage> written = Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\n"))
+        .map(line -> Jsons.deserialize(line, AirbyteMessage.class))
+        .collect(Collectors.toList());
+    assertEquals(messages, written);
+    assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("\n"));
+  }
+
+  @Test
+  void testFlushesOnStateAndWholeLinesOnly() throws Exception {
+    final List<String> flushedOutputs = new ArrayList<>();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream() {
+
+      @Override
+      public void flush() {
+        flushedOutputs.add(toString(StandardCharsets.UTF_8));
+      }
+
+    };
+
+    // a threshold this large is only reached by the state message and the close.
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, 1024 * 1024, 10)) {
+      writer.accept(record(1));
+      writer.accept(STATE_MESSAGE);
+      writer.accept(record(2));
+    }
+
+    assertEquals(List.of(
+        Jsons.serialize(record(1)) + "\n" + Jsons.serialize(STATE_MESSAGE) + "\n",
+        Jsons.serialize(record(1)) + "\n" + Jsons.serialize(STATE_MESSAGE) + "\n" + Jsons.serialize(record(2)) + "\n"),
+        flushedOutputs);
+  }
+
+  @Test
+  void testWritesOnSizeThreshold() throws Exception {
+    final List<Integer> writeSizes = new ArrayList<>();
+    final OutputStream output = new OutputStream() {
+
+      @Override
+      public void write(int b) {
+        writeSizes.add(1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+        writeSizes.add(len);
+      }
+
+    };
+
+    // every record exceeds the threshold on its own, so each one is written as a whole line.
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, 1, 10)) {
+      writer.accept(record(1));
+      writer.accept(record(2));
+    }
+
+    assertEquals(List.of(
+        (Jsons.serialize(record(1)) + "\n").length(),
+        (Jsons.serialize(record(2)) + "\n").length()),
+        writeSizes);
+  }
+
+  @Test
+  void testOutputFailureIsRethrown() {
+    final OutputStream output = new OutputStream() {
+
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("error");
+      }
+
+    };
+
+    final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, 1, 1);
+    assertThrows(RuntimeException.class, () -> {
+      for (int i = 0; i < 1000; i++) {
+        writer.accept(record(i));
+      }
+    });
+    assertThrows(IOException.class, writer::close);
+  }
+
+  private static AirbyteMessage record(final int id) {
+    return new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("users")
+            .withData(Jsons.jsonNode(Map.of("id", id)))
+            .withEmittedAt(1L));
+  }
+
+}
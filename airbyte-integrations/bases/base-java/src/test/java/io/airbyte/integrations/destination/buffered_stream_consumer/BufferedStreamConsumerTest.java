@@ -315,6 +315,195 @@ public class BufferedStreamConsumerTest {
     verify(outputRecordCollector, times(1)).accept(STATE_MESSAGE2);
   }
 
+  @Test
+  void testInterleavedStreamsAreFlushedPerStream() throws Exception {
+    final List<AirbyteMessage> expectedRecordsStream1 = getNRecords(10);
+    final List<AirbyteMessage> expectedRecordsStream2 = getNRecords(10, 20, STREAM_NAME2, 10);
+
+    consumer.start();
+    for (int i = 0; i < 10; i++) {
+      consumer.accept(expectedRecordsStream1.get(i));
+      consumer.accept(expectedRecordsStream2.get(i));
+    }
+    consumer.accept(STATE_MESSAGE1);
+
+    // each stream is flushed as soon as its own buffer is full.
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, expectedRecordsStream1);
+    verifyRecords(STREAM_NAME2, SCHEMA_NAME, expectedRecordsStream2);
+
+    consumer.close();
+
+    verifyStartAndClose();
+    verify(outputRecordCollector).accept(STATE_MESSAGE1);
+  }
+
+  @Test
+  void testAsyncFlushWithStateAndThenMoreRecordsBiggerThanBuffer() throws Exception {
+    final List<AirbyteMessage> expectedRecordsBatch1 = getNRecords(10);
+    final List<AirbyteMessage> expectedRecordsBatch2 = getNRecords(10, 20);
+    final List<AirbyteMessage> expectedRecordsBatch3 = getNRecords(20, 25);
+
+    final BufferedStreamConsumer consumer = createAsyncConsumer();
+    consumer.start();
+    consumeRecords(consumer, expectedRecordsBatch1);
+    consumer.accept(STATE_MESSAGE1);
+    consumeRecords(consumer, expectedRecordsBatch2);
+    consumer.accept(STATE_MESSAGE2);
+    consumeRecords(consumer, expectedRecordsBatch3);
+    consumer.close();
+
+    verifyStartAndClose();
+
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, expectedRecordsBatch1);
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, expectedRecordsBatch2);
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, expectedRecordsBatch3);
+
+    verify(outputRecordCollector).accept(STATE_MESSAGE2);
+  }
+
+  @Test
+  void testAsyncFlushExceptionAfterOneStateMessage() throws Exception {
+    final List<AirbyteMessage> expectedRecordsBatch1 = getNRecords(10);
+    final List<AirbyteMessage> expectedRecordsBatch2 = getNRecords(10, 20);
+    final List<AirbyteMessage> expectedRecordsBatch3 = getNRecords(20, 21);
+
+    final BufferedStreamConsumer consumer = createAsyncConsumer();
+    consumer.start();
+    consumeRecords(consumer, expectedRecordsBatch1);
+    consumer.accept(STATE_MESSAGE1);
+    consumeRecords(consumer, expectedRecordsBatch2);
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(expectedRecordsBatch3.get(0)));
+    consumer.close();
+
+    verifyStartAndClose();
+
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, expectedRecordsBatch1);
+
+    verify(outputRecordCollector).accept(STATE_MESSAGE1);
+  }
+
+  @Test
+  void testAsyncFlushExceptionDoesNotEmitState() throws Exception {
+    doThrow(new IllegalStateException("induced exception")).when(recordWriter).accept(any(), any());
+
+    final List<AirbyteMessage> expectedRecordsBatch1 = getNRecords(10);
+    final List<AirbyteMessage> expectedRecordsBatch2 = getNRecords(10, 20);
+
+    final BufferedStreamConsumer consumer = createAsyncConsumer();
+    consumer.start();
+    consumeRecords(consumer, expectedRecordsBatch1);
+    consumer.accept(STATE_MESSAGE1);
+    // the failure of the first batch is noticed when the second batch is handed over.
+    assertThrows(RuntimeException.class, () -> consumeRecords(consumer, expectedRecordsBatch2));
+    consumer.close();
+
+    verify(onClose).accept(true);
+    verifyNoInteractions(outputRecordCollector);
+  }
+
+  @Test
+  void testFlushLargestStreamOnByteBudget() throws Exception {
+    final List<AirbyteMessage> smallRecords = getNRecords(0, 2);
+    final List<AirbyteMessage> largeRecords = getNRecords(2, 4, STREAM_NAME2, 1000);
+
+    final BufferedStreamConsumer consumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        recordWriter,
+        onClose,
+        CATALOG,
+        isValidRecord,
+        1000,
+        1500,
+        false);
+
+    consumer.start();
+    consumeRecords(consumer, smallRecords);
+    consumer.accept(STATE_MESSAGE1);
+    consumeRecords(consumer, largeRecords);
+
+    // only the large stream is flushed, so the state still waits for the small stream.
+    verifyRecords(STREAM_NAME2, SCHEMA_NAME, largeRecords);
+    verify(recordWriter, times(1)).accept(any(), any());
+
+    consumer.accept(STATE_MESSAGE2);
+    consumer.close();
+
+    verifyStartAndClose();
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, smallRecords);
+    verify(outputRecordCollector).accept(STATE_MESSAGE2);
+  }
+
+  @Test
+  void testStateWaitsForStreamsBufferedBeforeIt() throws Exception {
+    final List<AirbyteMessage> smallRecords = getNRecords(0, 2);
+    final List<AirbyteMessage> largeRecords = getNRecords(2, 4, STREAM_NAME2, 1000);
+
+    final BufferedStreamConsumer consumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        recordWriter,
+        onClose,
+        CATALOG,
+        isValidRecord,
+        1000,
+        1500,
+        false);
+
+    consumer.start();
+    consumeRecords(consumer, smallRecords);
+    consumer.accept(STATE_MESSAGE1);
+    consumeRecords(consumer, largeRecords);
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(smallRecords.get(0)));
+    consumer.close();
+
+    // the records of the first stream that were received before the state were never flushed.
+    verify(onClose).accept(true);
+    verifyNoInteractions(outputRecordCollector);
+  }
+
+  @Test
+  void testTrickleStreamDoesNotHoldBackState() throws Exception {
+    final List<AirbyteMessage> trickleRecords = getNRecords(0, 1);
+
+    consumer.start();
+    consumeRecords(consumer, trickleRecords);
+    AirbyteMessage lastState = null;
+    for (int i = 0; i <= BufferedStreamConsumer.MAX_PENDING_STATES; i++) {
+      // each batch of the high-volume stream fills its buffer and is flushed right away.
+      consumeRecords(consumer, getNRecords(i * 10, (i + 1) * 10, STREAM_NAME2, 1));
+      lastState = new AirbyteMessage()
+          .withType(Type.STATE)
+          .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("state_message_id", i))));
+      consumer.accept(lastState);
+    }
+
+    // the trickle stream never fills its buffer, but is flushed once too many states wait on it.
+    verifyRecords(STREAM_NAME, SCHEMA_NAME, trickleRecords);
+
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(trickleRecords.get(0)));
+    consumer.close();
+
+    verify(onClose).accept(false);
+    verify(outputRecordCollector).accept(lastState);
+  }
+
+  private BufferedStreamConsumer createAsyncConsumer() {
+    return new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        recordWriter,
+        onClose,
+        CATALOG,
+        isValidRecord,
+        10,
+        0,
+        true);
+  }
+
   private void verifyStartAndClose() throws Exception {
     verify(onStart).call();
     verify(onClose).accept(false);
@@ -347,6 +536,14 @@ public class BufferedStreamConsumerTest {
         .collect(Collectors.toList());
   }
 
+  private static List<AirbyteMessage> getNRecords(int startInclusive, int endExclusive, String streamName, int nameLength) {
+    return getNRecords(startInclusive, endExclusive).stream()
+        .peek(m -> m.getRecord()
+            .withStream(streamName)
+            .withData(Jsons.jsonNode(ImmutableMap.of("id", m.getRecord().getData().get("id").asInt(), "name", "h".repeat(nameLength)))))
+        .collect(Collectors.toList());
+  }
+
   private void verifyRecords(String streamName, String namespace, Collection<AirbyteMessage> expectedRecords) throws Exception {
     verify(recordWriter).accept(
         new AirbyteStreamNameNamespacePair(streamName, namespace),
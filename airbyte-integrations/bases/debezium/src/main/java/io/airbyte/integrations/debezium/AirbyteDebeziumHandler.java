@@ -31,13 +31,14 @@ import io.airbyte.commons.util.CompositeIterator;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventBatchQueue;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
 import io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
-import io.debezium.engine.ChangeEvent;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
@@ -45,7 +46,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,11 +58,11 @@ public class AirbyteDebeziumHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteDebeziumHandler.class);
   /**
-   * We use 10000 as capacity cause the default queue size and batch size of debezium is :
-   * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_BATCH_SIZE}is 2048
-   * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
+   * Estimated size of the change events that can wait to be read. Debezium hands over batches of
+   * up to {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_BATCH_SIZE} (2048) events, so
+   * this leaves room for several batches of reasonably sized rows.
    */
-  private static final int QUEUE_CAPACITY = 10000;
+  public static final long DEFAULT_QUEUE_MEMORY_BUDGET_BYTES = 64 * 1024 * 1024;
 
   private final Properties connectorProperties;
   private final JsonNode config;
@@ -70,19 +70,32 @@ public class AirbyteDebeziumHandler {
   private final ConfiguredAirbyteCatalog catalog;
   private final boolean trackSchemaHistory;
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final ChangeEventBatchQueue queue;
 
   public AirbyteDebeziumHandler(JsonNode config,
                                 CdcTargetPosition targetPosition,
                                 Properties connectorProperties,
                                 ConfiguredAirbyteCatalog catalog,
                                 boolean trackSchemaHistory) {
+    this(config, targetPosition, connectorProperties, catalog, trackSchemaHistory, DEFAULT_QUEUE_MEMORY_BUDGET_BYTES);
+  }
+
+  /**
+   * @param queueMemoryBudgetBytes estimated size of the change events that can be buffered between
+   *        debezium and the iterator. debezium is blocked once it is reached.
+   */
+  public AirbyteDebeziumHandler(JsonNode config,
+                                CdcTargetPosition targetPosition,
+                                Properties connectorProperties,
+                                ConfiguredAirbyteCatalog catalog,
+                                boolean trackSchemaHistory,
+                                long queueMemoryBudgetBytes) {
     this.config = config;
     this.targetPosition = targetPosition;
     this.connectorProperties = connectorProperties;
     this.catalog = catalog;
     this.trackSchemaHistory = trackSchemaHistory;
-    this.queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    this.queue = new ChangeEventBatchQueue(queueMemoryBudgetBytes);
   }
 
   public List<AutoCloseableIterator<AirbyteMessage>> getIncrementalIterators(CdcSavedInfoFetcher cdcSavedInfoFetcher,
@@ -97,7 +110,7 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
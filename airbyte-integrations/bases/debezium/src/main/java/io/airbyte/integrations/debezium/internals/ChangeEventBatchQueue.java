@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import io.debezium.engine.ChangeEvent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands the batches of change events produced by the debezium engine over to the
+ * {@link DebeziumRecordIterator}. Whole batches cross the queue, so that the threads only
+ * synchronize once per batch instead of once per event.
+ * <p/>
+ * The events waiting in the queue are bounded by a memory budget, estimated from the length of their
+ * values. The engine thread blocks in {@link #put} while the budget is used up, instead of spinning.
+ * A single batch larger than the whole budget is still accepted once the queue is empty. The time
+ * spent waiting on both sides and the depth of the queue are tracked and logged by
+ * {@link #logStatistics()}, to tell whether the source or its consumer is the bottleneck.
+ */
+public class ChangeEventBatchQueue {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventBatchQueue.class);
+
+  private final long memoryBudgetBytes;
+  private final ReentrantLock lock;
+  private final Condition notFull;
+  private final Condition notEmpty;
+  private final Deque<Batch> batches;
+
+  // guarded by lock
+  private long bufferedBytes;
+  private long bufferedEvents;
+  private long maxBufferedEvents;
+  private long putBatches;
+  private long producerWaitNanos;
+  private long consumerWaitNanos;
+
+  // only accessed by the consumer thread
+  private Iterator<ChangeEvent<String, String>> currentBatch;
+
+  /**
+   * @param memoryBudgetBytes estimated size of the events that can wait in the queue.
+   */
+  public ChangeEventBatchQueue(long memoryBudgetBytes) {
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.lock = new ReentrantLock();
+    this.notFull = lock.newCondition();
+    this.notEmpty = lock.newCondition();
+    this.batches = new ArrayDeque<>();
+    this.currentBatch = null;
+  }
+
+  /**
+   * Adds a batch of events to the queue, blocking while the memory budget is used up.
+   *
+   * @param events events in the order they were produced. the list must not be modified afterwards.
+   * @throws InterruptedException if interrupted while waiting for room in the queue, e.g. when the
+   *         engine is stopped.
+   */
+  public void put(List<ChangeEvent<String, String>> events) throws InterruptedException {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    long bytes = 0;
+    for (final ChangeEvent<String, String> event : events) {
+      bytes += estimateBytes(event);
+    }
+
+    lock.lockInterruptibly();
+    try {
+      final long waitStart = System.nanoTime();
+      while (bufferedBytes > 0 && bufferedBytes + bytes > memoryBudgetBytes) {
+        notFull.await();
+      }
+      producerWaitNanos += System.nanoTime() - waitStart;
+
+      batches.addLast(new Batch(events, bytes));
+      bufferedBytes += bytes;
+      bufferedEvents += events.size();
+      maxBufferedEvents = Math.max(maxBufferedEvents, bufferedEvents);
+      putBatches++;
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the next event, waiting up to the timeout for one to be produced. Events are taken out
+   * of the queue a batch at a time: the budget of a batch is given back as soon as the consumer
+   * starts reading it.
+   *
+   * @return the next event or null if none was produced before the timeout.
+   */
+  public ChangeEvent<String, String> poll(long timeout, TimeUnit unit) throws InterruptedException {
+    if (currentBatch == null || !currentBatch.hasNext()) {
+      final Batch batch = takeBatch(timeout, unit);
+      if (batch == null) {
+        return null;
+      }
+      currentBatch = batch.events.iterator();
+    }
+    return currentBatch.next();
+  }
+
+  public boolean isEmpty() {
+    if (currentBatch != null && currentBatch.hasNext()) {
+      return false;
+    }
+    lock.lock();
+    try {
+      return batches.isEmpty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void logStatistics() {
+    lock.lock();
+    try {
+      LOGGER.info("Change event queue: {} batches, {} events waiting ({} bytes), max {} events waiting, producer waited {} ms, "
+          + "consumer waited {} ms",
+          putBatches, bufferedEvents, bufferedBytes, maxBufferedEvents,
+          TimeUnit.NANOSECONDS.toMillis(producerWaitNanos), TimeUnit.NANOSECONDS.toMillis(consumerWaitNanos));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Batch takeBatch(long timeout, TimeUnit unit) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      final long waitStart = System.nanoTime();
+      long remainingNanos = unit.toNanos(timeout);
+      while (batches.isEmpty() && remainingNanos > 0) {
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+      consumerWaitNanos += System.nanoTime() - waitStart;
+
+      final Batch batch = batches.pollFirst();
+      if (batch != null) {
+        bufferedBytes -= batch.bytes;
+        bufferedEvents -= batch.events.size();
+        notFull.signal();
+      }
+      return batch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static long estimateBytes(ChangeEvent<String, String> event) {
+    return event.value() == null ? 0 : event.value().length();
+  }
+
+  private static class Batch {
+
+    private final List<ChangeEvent<String, String>> events;
+    private final long bytes;
+
+    private Batch(List<ChangeEvent<String, String>> events, long bytes) {
+      this.events = events;
+      this.bytes = bytes;
+    }
+
+  }
+
+}
@@ -24,15 +24,12 @@
 
 package io.airbyte.integrations.debezium.internals;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.concurrency.VoidCallable;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
 import io.debezium.engine.ChangeEvent;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -49,15 +46,15 @@ import org.slf4j.LoggerFactory;
  * publisher is not closed. Even after the publisher is closed, the consumer will finish processing
  * any produced records before closing.
  */
-public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String, String>>
-    implements AutoCloseableIterator<ChangeEvent<String, String>> {
+public class DebeziumRecordIterator extends AbstractIterator<ChangeEventWithMetadata>
+    implements AutoCloseableIterator<ChangeEventWithMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordIterator.class);
 
   private static final WaitTime FIRST_RECORD_WAIT_TIME_MINUTES = new WaitTime(5, TimeUnit.MINUTES);
   private static final WaitTime SUBSEQUENT_RECORD_WAIT_TIME_SECONDS = new WaitTime(1, TimeUnit.MINUTES);
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final ChangeEventBatchQueue queue;
   private final CdcTargetPosition targetPosition;
   private final Supplier<Boolean> publisherStatusSupplier;
   private final VoidCallable requestClose;
@@ -65,7 +62,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   private boolean hasSnapshotFinished;
   private boolean signalledClose;
 
-  public DebeziumRecordIterator(LinkedBlockingQueue<ChangeEvent<String, String>> queue,
+  public DebeziumRecordIterator(ChangeEventBatchQueue queue,
                                 CdcTargetPosition targetPosition,
                                 Supplier<Boolean> publisherStatusSupplier,
                                 VoidCallable requestClose) {
@@ -79,7 +76,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   }
 
   @Override
-  protected ChangeEvent<String, String> computeNext() {
+  protected ChangeEventWithMetadata computeNext() {
     // keep trying until the publisher is closed or until the queue is empty. the latter case is
     // possible when the publisher has shutdown but the consumer has not yet processed all messages it
     // emitted.
@@ -101,22 +98,22 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
         continue;
       }
 
-      JsonNode eventAsJson = Jsons.deserialize(next.value());
-      hasSnapshotFinished = hasSnapshotFinished(eventAsJson);
+      // the event is only parsed here. the parsed value is handed over to build the airbyte record.
+      final ChangeEventWithMetadata changeEventWithMetadata = new ChangeEventWithMetadata(next);
+      hasSnapshotFinished = hasSnapshotFinished(changeEventWithMetadata);
 
       // if the last record matches the target file position, it is time to tell the producer to shutdown.
-      if (!signalledClose && shouldSignalClose(eventAsJson)) {
+      if (!signalledClose && shouldSignalClose(changeEventWithMetadata)) {
         requestClose();
       }
       receivedFirstRecord = true;
-      return next;
+      return changeEventWithMetadata;
     }
     return endOfData();
   }
 
-  private boolean hasSnapshotFinished(JsonNode eventAsJson) {
-    SnapshotMetadata snapshot = SnapshotMetadata.valueOf(eventAsJson.get("source").get("snapshot").asText().toUpperCase());
-    return SnapshotMetadata.TRUE != snapshot;
+  private boolean hasSnapshotFinished(ChangeEventWithMetadata changeEventWithMetadata) {
+    return SnapshotMetadata.TRUE != changeEventWithMetadata.snapshotMetadata();
   }
 
   /**
@@ -137,11 +134,12 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
    */
   @Override
   public void close() throws Exception {
+    queue.logStatistics();
     requestClose();
   }
 
-  private boolean shouldSignalClose(JsonNode eventAsJson) {
-    return targetPosition.reachedTargetPosition(eventAsJson);
+  private boolean shouldSignalClose(ChangeEventWithMetadata changeEventWithMetadata) {
+    return targetPosition.reachedTargetPosition(changeEventWithMetadata.eventValueAsJson());
   }
 
   private void requestClose() {
@@ -33,9 +33,10 @@ import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.format.Json;
 import io.debezium.engine.spi.OffsetCommitPolicy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -85,21 +86,28 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.engineLatch = new CountDownLatch(1);
   }
 
-  public void start(Queue<ChangeEvent<String, String>> queue) {
+  public void start(ChangeEventBatchQueue queue) {
     engine = DebeziumEngine.create(Json.class)
         .using(getDebeziumProperties())
         .using(new OffsetCommitPolicy.AlwaysCommitOffsetPolicy())
-        .notifying(e -> {
-          // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
-          // interacts with kafka. we want to ignore it.
-          // more on the tombstone:
-          // https://debezium.io/documentation/reference/configuration/event-flattening.html
-          if (e.value() != null) {
-            boolean inserted = false;
-            while (!inserted) {
-              inserted = queue.offer(e);
+        .notifying((records, committer) -> {
+          final List<ChangeEvent<String, String>> events = new ArrayList<>(records.size());
+          for (final ChangeEvent<String, String> record : records) {
+            // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
+            // interacts with kafka. we want to ignore it.
+            // more on the tombstone:
+            // https://debezium.io/documentation/reference/configuration/event-flattening.html
+            if (record.value() != null) {
+              events.add(record);
             }
           }
+          // blocks while the queue is full, until the iterator catches up.
+          queue.put(events);
+
+          for (final ChangeEvent<String, String> record : records) {
+            committer.markProcessed(record);
+          }
+          committer.markBatchFinished();
         })
         .using((success, message, error) -> {
           LOGGER.info("Debezium engine shutdown.");
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.integrations.debezium.internals.ChangeEventBatchQueue;
+import io.debezium.engine.ChangeEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ChangeEventBatchQueueTest {
+
+  private static final ChangeEvent<String, String> EVENT1 = mockChangeEvent("1234567890");
+  private static final ChangeEvent<String, String> EVENT2 = mockChangeEvent("abcdefghij");
+  private static final ChangeEvent<String, String> EVENT3 = mockChangeEvent("klmnopqrst");
+
+  @Test
+  void testEventsArePolledInOrder() throws InterruptedException {
+    final ChangeEventBatchQueue queue = new ChangeEventBatchQueue(1000);
+    assertTrue(queue.isEmpty());
+
+    queue.put(List.of(EVENT1, EVENT2));
+    queue.put(List.of());
+    queue.put(List.of(EVENT3));
+
+    assertFalse(queue.isEmpty());
+    assertEquals(EVENT1, queue.poll(1, TimeUnit.SECONDS));
+    assertEquals(EVENT2, queue.poll(1, TimeUnit.SECONDS));
+    assertFalse(queue.isEmpty());
+    assertEquals(EVENT3, queue.poll(1, TimeUnit.SECONDS));
+    assertTrue(queue.isEmpty());
+    assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testPutBlocksWhileBudgetIsUsedUp() throws Exception {
+    // the budget fits a single event.
+    final ChangeEventBatchQueue queue = new ChangeEventBatchQueue(15);
+    queue.put(List.of(EVENT1));
+
+    final CompletableFuture<Void> blockedPut = CompletableFuture.runAsync(() -> {
+      try {
+        queue.put(List.of(EVENT2));
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    assertFalse(blockedPut.isDone());
+
+    assertEquals(EVENT1, queue.poll(1, TimeUnit.SECONDS));
+    blockedPut.get(10, TimeUnit.SECONDS);
+    assertEquals(EVENT2, queue.poll(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testBatchLargerThanBudgetIsAcceptedWhenEmpty() throws InterruptedException {
+    final ChangeEventBatchQueue queue = new ChangeEventBatchQueue(1);
+
+    queue.put(List.of(EVENT1, EVENT2, EVENT3));
+
+    assertEquals(EVENT1, queue.poll(1, TimeUnit.SECONDS));
+    assertEquals(EVENT2, queue.poll(1, TimeUnit.SECONDS));
+    assertEquals(EVENT3, queue.poll(1, TimeUnit.SECONDS));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ChangeEvent<String, String> mockChangeEvent(String value) {
+    final ChangeEvent<String, String> mocked = mock(ChangeEvent.class);
+    when(mocked.value()).thenReturn(value);
+    return mocked;
+  }
+
+}
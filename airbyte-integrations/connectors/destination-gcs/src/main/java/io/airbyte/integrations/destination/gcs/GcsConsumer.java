@@ -29,6 +29,9 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
 import io.airbyte.integrations.destination.gcs.writer.GcsWriterFactory;
+import io.airbyte.integrations.destination.s3.writer.AsyncS3Writer;
+import io.airbyte.integrations.destination.s3.writer.RollingS3Writer;
+import io.airbyte.integrations.destination.s3.writer.S3PartRollingConfig;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
@@ -40,6 +43,7 @@ import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
 public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
@@ -48,6 +52,8 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog configuredCatalog;
   private final GcsWriterFactory writerFactory;
   private final Consumer<AirbyteMessage> outputRecordCollector;
+  private final int maxBufferedRecords;
+  private final S3PartRollingConfig rollingConfig;
   private final Map<AirbyteStreamNameNamespacePair, S3Writer> streamNameAndNamespaceToWriters;
 
   private AirbyteMessage lastStateMessage = null;
@@ -56,10 +62,27 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
                      ConfiguredAirbyteCatalog configuredCatalog,
                      GcsWriterFactory writerFactory,
                      Consumer<AirbyteMessage> outputRecordCollector) {
+    this(gcsDestinationConfig, configuredCatalog, writerFactory, outputRecordCollector, 0, S3PartRollingConfig.NO_ROLLING);
+  }
+
+  /**
+   * @param maxBufferedRecords when positive, the records of each stream are written by a dedicated
+   *        thread, and at most this many records across all streams wait to be written. Otherwise
+   *        the records are written synchronously.
+   * @param rollingConfig limits of the part files that the records of each stream are split into.
+   */
+  public GcsConsumer(GcsDestinationConfig gcsDestinationConfig,
+                     ConfiguredAirbyteCatalog configuredCatalog,
+                     GcsWriterFactory writerFactory,
+                     Consumer<AirbyteMessage> outputRecordCollector,
+                     int maxBufferedRecords,
+                     S3PartRollingConfig rollingConfig) {
     this.gcsDestinationConfig = gcsDestinationConfig;
     this.configuredCatalog = configuredCatalog;
     this.writerFactory = writerFactory;
     this.outputRecordCollector = outputRecordCollector;
+    this.maxBufferedRecords = maxBufferedRecords;
+    this.rollingConfig = rollingConfig;
     this.streamNameAndNamespaceToWriters = new HashMap<>(configuredCatalog.getStreams().size());
   }
 
@@ -68,10 +91,21 @@ public class GcsConsumer extends FailureTrackingAirbyteMessageConsumer {
     AmazonS3 s3Client = GcsS3Helper.getGcsS3Client(gcsDestinationConfig);
 
     Timestamp uploadTimestamp = new Timestamp(System.currentTimeMillis());
+    // the budget of buffered records is shared by the writers of all streams
+    Semaphore bufferBudget = maxBufferedRecords > 0 ? new Semaphore(maxBufferedRecords) : null;
 
     for (ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
-      S3Writer writer = writerFactory
-          .create(gcsDestinationConfig, s3Client, configuredStream, uploadTimestamp);
+      S3Writer writer;
+      if (rollingConfig.isEnabled()) {
+        writer = new RollingS3Writer(
+            partId -> writerFactory.create(gcsDestinationConfig, s3Client, configuredStream, uploadTimestamp, partId),
+            rollingConfig);
+      } else {
+        writer = writerFactory.create(gcsDestinationConfig, s3Client, configuredStream, uploadTimestamp, 0);
+      }
+      if (bufferBudget != null) {
+        writer = new AsyncS3Writer(writer, bufferBudget);
+      }
       writer.initialize();
 
       AirbyteStream stream = configuredStream.getStream();
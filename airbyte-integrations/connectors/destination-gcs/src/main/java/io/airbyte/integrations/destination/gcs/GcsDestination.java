@@ -70,7 +70,9 @@ public class GcsDestination extends BaseConnector implements Destination {
                                             ConfiguredAirbyteCatalog configuredCatalog,
                                             Consumer<AirbyteMessage> outputRecordCollector) {
     GcsWriterFactory formatterFactory = new ProductionWriterFactory();
-    return new GcsConsumer(GcsDestinationConfig.getGcsDestinationConfig(config), configuredCatalog, formatterFactory, outputRecordCollector);
+    GcsDestinationConfig gcsDestinationConfig = GcsDestinationConfig.getGcsDestinationConfig(config);
+    return new GcsConsumer(gcsDestinationConfig, configuredCatalog, formatterFactory, outputRecordCollector,
+        gcsDestinationConfig.getMaxBufferedRecords(), gcsDestinationConfig.getRollingConfig());
   }
 
 }
@@ -29,6 +29,7 @@ import io.airbyte.integrations.destination.gcs.credential.GcsCredentialConfig;
 import io.airbyte.integrations.destination.gcs.credential.GcsCredentialConfigs;
 import io.airbyte.integrations.destination.s3.S3FormatConfig;
 import io.airbyte.integrations.destination.s3.S3FormatConfigs;
+import io.airbyte.integrations.destination.s3.writer.S3PartRollingConfig;
 
 public class GcsDestinationConfig {
 
@@ -37,17 +38,23 @@ public class GcsDestinationConfig {
   private final String bucketRegion;
   private final GcsCredentialConfig credentialConfig;
   private final S3FormatConfig formatConfig;
+  private final int maxBufferedRecords;
+  private final S3PartRollingConfig rollingConfig;
 
   public GcsDestinationConfig(String bucketName,
                               String bucketPath,
                               String bucketRegion,
                               GcsCredentialConfig credentialConfig,
-                              S3FormatConfig formatConfig) {
+                              S3FormatConfig formatConfig,
+                              int maxBufferedRecords,
+                              S3PartRollingConfig rollingConfig) {
     this.bucketName = bucketName;
     this.bucketPath = bucketPath;
     this.bucketRegion = bucketRegion;
     this.credentialConfig = credentialConfig;
     this.formatConfig = formatConfig;
+    this.maxBufferedRecords = maxBufferedRecords;
+    this.rollingConfig = rollingConfig;
   }
 
   public static GcsDestinationConfig getGcsDestinationConfig(JsonNode config) {
@@ -56,7 +63,9 @@ public class GcsDestinationConfig {
         config.get("gcs_bucket_path").asText(),
         config.get("gcs_bucket_region").asText(),
         GcsCredentialConfigs.getCredentialConfig(config),
-        S3FormatConfigs.getS3FormatConfig(config));
+        S3FormatConfigs.getS3FormatConfig(config),
+        config.get("max_buffered_records") == null ? 0 : config.get("max_buffered_records").asInt(),
+        S3PartRollingConfig.getS3PartRollingConfig(config));
   }
 
   public String getBucketName() {
@@ -79,4 +88,12 @@ public class GcsDestinationConfig {
     return formatConfig;
   }
 
+  public int getMaxBufferedRecords() {
+    return maxBufferedRecords;
+  }
+
+  public S3PartRollingConfig getRollingConfig() {
+    return rollingConfig;
+  }
+
 }
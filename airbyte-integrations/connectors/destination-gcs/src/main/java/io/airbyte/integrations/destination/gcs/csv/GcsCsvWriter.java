@@ -27,6 +27,7 @@ package io.airbyte.integrations.destination.gcs.csv;
 import alex.mojaki.s3upload.MultiPartOutputStream;
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.integrations.destination.gcs.GcsDestinationConfig;
 import io.airbyte.integrations.destination.gcs.writer.BaseGcsWriter;
 import io.airbyte.integrations.destination.s3.S3Format;
@@ -54,19 +55,21 @@ public class GcsCsvWriter extends BaseGcsWriter implements S3Writer {
   private final CsvSheetGenerator csvSheetGenerator;
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final CSVPrinter csvPrinter;
 
   public GcsCsvWriter(GcsDestinationConfig config,
                       AmazonS3 s3Client,
                       ConfiguredAirbyteStream configuredStream,
-                      Timestamp uploadTimestamp)
+                      Timestamp uploadTimestamp,
+                      int partId)
       throws IOException {
     super(config, s3Client, configuredStream);
 
     S3CsvFormatConfig formatConfig = (S3CsvFormatConfig) config.getFormatConfig();
     this.csvSheetGenerator = CsvSheetGenerator.Factory.create(configuredStream.getStream().getJsonSchema(), formatConfig);
 
-    String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.CSV);
+    String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, partId, S3Format.CSV);
     String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full GCS path for stream '{}': {}/{}", stream.getName(), config.getBucketName(),
@@ -75,7 +78,8 @@ public class GcsCsvWriter extends BaseGcsWriter implements S3Writer {
     this.uploadManager = S3StreamTransferManagerHelper.getDefault(config.getBucketName(), objectKey, s3Client);
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    this.csvPrinter = new CSVPrinter(new PrintWriter(outputStream, true, StandardCharsets.UTF_8),
+    this.countingOutputStream = new CountingOutputStream(outputStream);
+    this.csvPrinter = new CSVPrinter(new PrintWriter(countingOutputStream, true, StandardCharsets.UTF_8),
         CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL)
             .withHeader(csvSheetGenerator.getHeaderRow().toArray(new String[0])));
   }
@@ -85,6 +89,11 @@ public class GcsCsvWriter extends BaseGcsWriter implements S3Writer {
     csvPrinter.printRecord(csvSheetGenerator.getDataRow(id, recordMessage));
   }
 
+  @Override
+  public long getBytesWritten() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     csvPrinter.close();
@@ -25,15 +25,11 @@
 package io.airbyte.integrations.destination.gcs.parquet;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.gcs.GcsDestinationConfig;
 import io.airbyte.integrations.destination.gcs.credential.GcsHmacKeyCredentialConfig;
 import io.airbyte.integrations.destination.gcs.writer.BaseGcsWriter;
 import io.airbyte.integrations.destination.s3.S3Format;
+import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
 import io.airbyte.integrations.destination.s3.avro.JsonFieldNameUpdater;
 import io.airbyte.integrations.destination.s3.parquet.S3ParquetFormatConfig;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
@@ -54,31 +50,25 @@ import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.util.HadoopOutputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
 
 public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GcsParquetWriter.class);
-  private static final ObjectMapper MAPPER = new ObjectMapper();
-  private static final ObjectWriter WRITER = MAPPER.writer();
 
-  private final Schema schema;
-  private final JsonFieldNameUpdater nameUpdater;
   private final ParquetWriter<Record> parquetWriter;
-  private final JsonAvroConverter converter = new JsonAvroConverter();
+  private final AvroRecordFactory avroRecordFactory;
 
   public GcsParquetWriter(GcsDestinationConfig config,
                           AmazonS3 s3Client,
                           ConfiguredAirbyteStream configuredStream,
                           Timestamp uploadTimestamp,
+                          int partId,
                           Schema schema,
                           JsonFieldNameUpdater nameUpdater)
       throws URISyntaxException, IOException {
     super(config, s3Client, configuredStream);
-    this.schema = schema;
-    this.nameUpdater = nameUpdater;
 
-    String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.PARQUET);
+    String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, partId, S3Format.PARQUET);
     String objectKey = String.join("/", outputPrefix, outputFilename);
     LOGGER.info("Storage path for stream '{}': {}/{}", stream.getName(), config.getBucketName(), objectKey);
 
@@ -98,6 +88,7 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
         .withDictionaryPageSize(formatConfig.getDictionaryPageSize())
         .withDictionaryEncoding(formatConfig.isDictionaryEncoding())
         .build();
+    this.avroRecordFactory = new AvroRecordFactory(schema, nameUpdater);
   }
 
   public static Configuration getHadoopConfig(GcsDestinationConfig config) {
@@ -119,16 +110,12 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
 
   @Override
   public void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException {
-    JsonNode inputData = recordMessage.getData();
-    inputData = nameUpdater.getJsonWithStandardizedFieldNames(inputData);
-
-    ObjectNode jsonRecord = MAPPER.createObjectNode();
-    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString());
-    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
-    jsonRecord.setAll((ObjectNode) inputData);
+    parquetWriter.write(avroRecordFactory.getAvroRecord(id, recordMessage));
+  }
 
-    GenericData.Record avroRecord = converter.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
-    parquetWriter.write(avroRecord);
+  @Override
+  public long getBytesWritten() {
+    return parquetWriter.getDataSize();
   }
 
   @Override
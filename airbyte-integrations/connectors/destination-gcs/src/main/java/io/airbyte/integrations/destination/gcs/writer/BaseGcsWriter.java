@@ -27,6 +27,7 @@ package io.airbyte.integrations.destination.gcs.writer;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.HeadBucketRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import io.airbyte.integrations.destination.gcs.GcsDestinationConfig;
 import io.airbyte.integrations.destination.s3.S3DestinationConstants;
@@ -86,11 +87,17 @@ public abstract class BaseGcsWriter implements S3Writer {
 
     if (syncMode == DestinationSyncMode.OVERWRITE) {
       LOGGER.info("Overwrite mode");
+      // the listing returns at most 1000 keys per page, so all of its pages are read.
       List<KeyVersion> keysToDelete = new LinkedList<>();
-      List<S3ObjectSummary> objects = s3Client.listObjects(bucket, outputPrefix)
-          .getObjectSummaries();
-      for (S3ObjectSummary object : objects) {
-        keysToDelete.add(new KeyVersion(object.getKey()));
+      ObjectListing objects = s3Client.listObjects(bucket, outputPrefix);
+      while (true) {
+        for (S3ObjectSummary object : objects.getObjectSummaries()) {
+          keysToDelete.add(new KeyVersion(object.getKey()));
+        }
+        if (!objects.isTruncated()) {
+          break;
+        }
+        objects = s3Client.listNextBatchOfObjects(objects);
       }
 
       if (keysToDelete.size() > 0) {
@@ -148,12 +155,18 @@ public abstract class BaseGcsWriter implements S3Writer {
 
   // Filename: <upload-date>_<upload-millis>_0.<format-extension>
   public static String getOutputFilename(Timestamp timestamp, S3Format format) {
+    return getOutputFilename(timestamp, 0, format);
+  }
+
+  // Filename: <upload-date>_<upload-millis>_<part-id>.<format-extension>
+  public static String getOutputFilename(Timestamp timestamp, int partId, S3Format format) {
     DateFormat formatter = new SimpleDateFormat(S3DestinationConstants.YYYY_MM_DD_FORMAT_STRING);
     formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
     return String.format(
-        "%s_%d_0.%s",
+        "%s_%d_%d.%s",
         formatter.format(timestamp),
         timestamp.getTime(),
+        partId,
         format.getFileExtension());
   }
 
@@ -38,7 +38,8 @@ public interface GcsWriterFactory {
   S3Writer create(GcsDestinationConfig config,
                   AmazonS3 s3Client,
                   ConfiguredAirbyteStream configuredStream,
-                  Timestamp uploadTimestamp)
+                  Timestamp uploadTimestamp,
+                  int partId)
       throws Exception;
 
 }
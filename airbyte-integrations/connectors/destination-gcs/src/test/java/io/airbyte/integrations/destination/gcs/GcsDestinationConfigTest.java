@@ -34,6 +34,7 @@ import io.airbyte.integrations.destination.gcs.credential.GcsCredentialConfig;
 import io.airbyte.integrations.destination.gcs.credential.GcsHmacKeyCredentialConfig;
 import io.airbyte.integrations.destination.s3.S3FormatConfig;
 import io.airbyte.integrations.destination.s3.avro.S3AvroFormatConfig;
+import io.airbyte.integrations.destination.s3.writer.S3PartRollingConfig;
 import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
@@ -60,6 +61,13 @@ class GcsDestinationConfigTest {
 
     S3AvroFormatConfig avroFormatConfig = (S3AvroFormatConfig) formatConfig;
     assertEquals("deflate-5", avroFormatConfig.getCodecFactory().toString());
+
+    assertEquals(10000, config.getMaxBufferedRecords());
+
+    S3PartRollingConfig rollingConfig = config.getRollingConfig();
+    assertEquals(512L * 1024 * 1024, rollingConfig.getMaxPartBytes());
+    assertEquals(1000000, rollingConfig.getMaxPartRecords());
+    assertEquals(60L * 60 * 1000, rollingConfig.getMaxPartAgeMillis());
   }
 
 }
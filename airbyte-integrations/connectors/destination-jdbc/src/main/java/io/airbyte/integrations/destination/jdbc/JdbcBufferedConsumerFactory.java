@@ -63,7 +63,9 @@ public class JdbcBufferedConsumerFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JdbcBufferedConsumerFactory.class);
 
+  // the records of a batch are inserted with a single statement, which bounds its number of records
   private static final int MAX_BATCH_SIZE = 10000;
+  private static final long MAX_BATCH_BYTES = 25 * 1024 * 1024;
 
   public static AirbyteMessageConsumer create(Consumer<AirbyteMessage> outputRecordCollector,
                                               JdbcDatabase database,
@@ -80,7 +82,9 @@ public class JdbcBufferedConsumerFactory {
         onCloseFunction(database, sqlOperations, writeConfigs),
         catalog,
         sqlOperations::isValidData,
-        MAX_BATCH_SIZE);
+        MAX_BATCH_SIZE,
+        MAX_BATCH_BYTES,
+        true);
   }
 
   private static List<WriteConfig> createWriteConfigs(NamingConventionTransformer namingResolver,
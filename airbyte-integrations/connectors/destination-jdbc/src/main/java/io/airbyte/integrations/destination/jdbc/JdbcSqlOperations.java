@@ -31,6 +31,7 @@ import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.File;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -75,14 +76,7 @@ public abstract class JdbcSqlOperations implements SqlOperations {
     PrintWriter writer = null;
     try {
       writer = new PrintWriter(tmpFile, StandardCharsets.UTF_8);
-      var csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
-
-      for (AirbyteRecordMessage record : records) {
-        var uuid = UUID.randomUUID().toString();
-        var jsonData = Jsons.serialize(formatData(record.getData()));
-        var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
-        csvPrinter.printRecord(uuid, jsonData, emittedAt);
-      }
+      writeBatch(writer, records);
     } finally {
       if (writer != null) {
         writer.close();
@@ -90,6 +84,22 @@ public abstract class JdbcSqlOperations implements SqlOperations {
     }
   }
 
+  /**
+   * Writes the records as csv rows of id, data and emitted at to the writer and flushes it. The
+   * writer is not closed.
+   */
+  protected void writeBatch(Writer writer, List<AirbyteRecordMessage> records) throws Exception {
+    var csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
+
+    for (AirbyteRecordMessage record : records) {
+      var uuid = UUID.randomUUID().toString();
+      var jsonData = Jsons.serialize(formatData(record.getData()));
+      var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
+      csvPrinter.printRecord(uuid, jsonData, emittedAt);
+    }
+    csvPrinter.flush();
+  }
+
   protected JsonNode formatData(JsonNode data) {
     return data;
   }
@@ -52,7 +52,8 @@ public class CopyConsumerFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CopyConsumerFactory.class);
 
-  private static final int MAX_BATCH_SIZE = 10000;
+  private static final int MAX_BATCH_SIZE = 100_000;
+  private static final long MAX_BATCH_BYTES = 25 * 1024 * 1024;
 
   public static <T> AirbyteMessageConsumer create(Consumer<AirbyteMessage> outputRecordCollector,
                                                   JdbcDatabase database,
@@ -79,7 +80,9 @@ public class CopyConsumerFactory {
         onCloseFunction(pairToCopier, database, sqlOperations, pairToIgnoredRecordCount),
         catalog,
         sqlOperations::isValidData,
-        MAX_BATCH_SIZE);
+        MAX_BATCH_SIZE,
+        MAX_BATCH_BYTES,
+        false);
   }
 
   private static <T> Map<AirbyteStreamNameNamespacePair, StreamCopier> createWriteConfigs(ExtendedNameTransformer namingResolver,
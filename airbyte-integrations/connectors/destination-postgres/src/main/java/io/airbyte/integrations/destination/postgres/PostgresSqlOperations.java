@@ -28,14 +28,12 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.jdbc.DataAdapter;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
-import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.core.BaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,26 +49,20 @@ public class PostgresSqlOperations extends JdbcSqlOperations {
       return;
     }
 
+    // the csv rows are streamed straight into the COPY instead of going through a temporary file.
     database.execute(connection -> {
-      File tmpFile = null;
+      final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
+      final var copyStream = new PGCopyOutputStream(connection.unwrap(BaseConnection.class), sql);
       try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
-        var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
-        var bufferedReader = new BufferedReader(new FileReader(tmpFile));
-        copyManager.copyIn(sql, bufferedReader);
+        writeBatch(new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8)), records);
+        final long copiedRows = copyStream.endCopy();
+        LOGGER.debug("Copied {} records into {}.{}", copiedRows, schemaName, tmpTableName);
       } catch (Exception e) {
-        throw new RuntimeException(e);
-      } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
-          }
-        } catch (IOException e) {
-          throw new RuntimeException(e);
+        // do not let a failed batch be partially committed.
+        if (copyStream.isActive()) {
+          copyStream.cancelCopy();
         }
+        throw new RuntimeException(e);
       }
     });
   }
@@ -34,6 +34,9 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
+import io.airbyte.integrations.destination.s3.writer.AsyncS3Writer;
+import io.airbyte.integrations.destination.s3.writer.RollingS3Writer;
+import io.airbyte.integrations.destination.s3.writer.S3PartRollingConfig;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.integrations.destination.s3.writer.S3WriterFactory;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -46,6 +49,7 @@ import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
 public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
@@ -54,6 +58,8 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog configuredCatalog;
   private final S3WriterFactory writerFactory;
   private final Consumer<AirbyteMessage> outputRecordCollector;
+  private final int maxBufferedRecords;
+  private final S3PartRollingConfig rollingConfig;
   private final Map<AirbyteStreamNameNamespacePair, S3Writer> streamNameAndNamespaceToWriters;
 
   private AirbyteMessage lastStateMessage = null;
@@ -62,10 +68,27 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
                     ConfiguredAirbyteCatalog configuredCatalog,
                     S3WriterFactory writerFactory,
                     Consumer<AirbyteMessage> outputRecordCollector) {
+    this(s3DestinationConfig, configuredCatalog, writerFactory, outputRecordCollector, 0, S3PartRollingConfig.NO_ROLLING);
+  }
+
+  /**
+   * @param maxBufferedRecords when positive, the records of each stream are written by a dedicated
+   *        thread, and at most this many records across all streams wait to be written. Otherwise
+   *        the records are written synchronously.
+   * @param rollingConfig limits of the part files that the records of each stream are split into.
+   */
+  public S3Consumer(S3DestinationConfig s3DestinationConfig,
+                    ConfiguredAirbyteCatalog configuredCatalog,
+                    S3WriterFactory writerFactory,
+                    Consumer<AirbyteMessage> outputRecordCollector,
+                    int maxBufferedRecords,
+                    S3PartRollingConfig rollingConfig) {
     this.s3DestinationConfig = s3DestinationConfig;
     this.configuredCatalog = configuredCatalog;
     this.writerFactory = writerFactory;
     this.outputRecordCollector = outputRecordCollector;
+    this.maxBufferedRecords = maxBufferedRecords;
+    this.rollingConfig = rollingConfig;
     this.streamNameAndNamespaceToWriters = new HashMap<>(configuredCatalog.getStreams().size());
   }
 
@@ -97,10 +120,22 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
     }
 
     Timestamp uploadTimestamp = new Timestamp(System.currentTimeMillis());
+    // the budget of buffered records is shared by the writers of all streams
+    Semaphore bufferBudget = maxBufferedRecords > 0 ? new Semaphore(maxBufferedRecords) : null;
 
     for (ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
-      S3Writer writer = writerFactory
-          .create(s3DestinationConfig, s3Client, configuredStream, uploadTimestamp);
+      S3Writer writer;
+      if (rollingConfig.isEnabled()) {
+        AmazonS3 client = s3Client;
+        writer = new RollingS3Writer(
+            partId -> writerFactory.create(s3DestinationConfig, client, configuredStream, uploadTimestamp, partId),
+            rollingConfig);
+      } else {
+        writer = writerFactory.create(s3DestinationConfig, s3Client, configuredStream, uploadTimestamp, 0);
+      }
+      if (bufferBudget != null) {
+        writer = new AsyncS3Writer(writer, bufferBudget);
+      }
       writer.initialize();
 
       AirbyteStream stream = configuredStream.getStream();
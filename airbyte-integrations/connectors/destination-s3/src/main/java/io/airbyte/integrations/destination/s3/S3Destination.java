@@ -68,7 +68,9 @@ public class S3Destination extends BaseConnector implements Destination {
                                             ConfiguredAirbyteCatalog configuredCatalog,
                                             Consumer<AirbyteMessage> outputRecordCollector) {
     S3WriterFactory formatterFactory = new ProductionWriterFactory();
-    return new S3Consumer(S3DestinationConfig.getS3DestinationConfig(config), configuredCatalog, formatterFactory, outputRecordCollector);
+    S3DestinationConfig s3DestinationConfig = S3DestinationConfig.getS3DestinationConfig(config);
+    return new S3Consumer(s3DestinationConfig, configuredCatalog, formatterFactory, outputRecordCollector,
+        s3DestinationConfig.getMaxBufferedRecords(), s3DestinationConfig.getRollingConfig());
   }
 
 }
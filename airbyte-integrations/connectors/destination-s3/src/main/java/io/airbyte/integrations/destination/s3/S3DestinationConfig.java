@@ -25,6 +25,7 @@
 package io.airbyte.integrations.destination.s3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.integrations.destination.s3.writer.S3PartRollingConfig;
 
 public class S3DestinationConfig {
 
@@ -35,6 +36,8 @@ public class S3DestinationConfig {
   private final String accessKeyId;
   private final String secretAccessKey;
   private final S3FormatConfig formatConfig;
+  private final int maxBufferedRecords;
+  private final S3PartRollingConfig rollingConfig;
 
   public S3DestinationConfig(
                              String endpoint,
@@ -43,7 +46,9 @@ public class S3DestinationConfig {
                              String bucketRegion,
                              String accessKeyId,
                              String secretAccessKey,
-                             S3FormatConfig formatConfig) {
+                             S3FormatConfig formatConfig,
+                             int maxBufferedRecords,
+                             S3PartRollingConfig rollingConfig) {
     this.endpoint = endpoint;
     this.bucketName = bucketName;
     this.bucketPath = bucketPath;
@@ -51,6 +56,8 @@ public class S3DestinationConfig {
     this.accessKeyId = accessKeyId;
     this.secretAccessKey = secretAccessKey;
     this.formatConfig = formatConfig;
+    this.maxBufferedRecords = maxBufferedRecords;
+    this.rollingConfig = rollingConfig;
   }
 
   public static S3DestinationConfig getS3DestinationConfig(JsonNode config) {
@@ -61,7 +68,9 @@ public class S3DestinationConfig {
         config.get("s3_bucket_region").asText(),
         config.get("access_key_id").asText(),
         config.get("secret_access_key").asText(),
-        S3FormatConfigs.getS3FormatConfig(config));
+        S3FormatConfigs.getS3FormatConfig(config),
+        config.get("max_buffered_records") == null ? 0 : config.get("max_buffered_records").asInt(),
+        S3PartRollingConfig.getS3PartRollingConfig(config));
   }
 
   public String getEndpoint() {
@@ -92,4 +101,12 @@ public class S3DestinationConfig {
     return formatConfig;
   }
 
+  public int getMaxBufferedRecords() {
+    return maxBufferedRecords;
+  }
+
+  public S3PartRollingConfig getRollingConfig() {
+    return rollingConfig;
+  }
+
 }
@@ -42,6 +42,10 @@ public class JsonFieldNameUpdater {
     this.standardizedNames = ImmutableMap.copyOf(standardizedNames);
   }
 
+  public Map<String, String> getStandardizedNames() {
+    return standardizedNames;
+  }
+
   public boolean hasNameUpdate() {
     return standardizedNames.size() > 0;
   }
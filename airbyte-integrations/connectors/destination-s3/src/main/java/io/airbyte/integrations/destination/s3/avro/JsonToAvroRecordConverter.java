@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts json records into Avro records of a given schema. The schema is compiled once into a
+ * converter per field, so that each record is converted by walking its json tree a single time,
+ * instead of serializing it and parsing it back as {@code JsonAvroConverter} does. The conversion
+ * rules are the same as the ones of {@code JsonAvroConverter}: unions pick the first type that
+ * accepts the value, missing fields get their default value, and fields that are not in the schema
+ * are dropped.
+ * <p/>
+ * Field names that were standardized by {@link JsonToAvroSchemaConverter} are looked up by their
+ * original name as well, at every level of the record.
+ */
+public class JsonToAvroRecordConverter {
+
+  // returned by a value converter when the value does not match its schema. unions then try their
+  // next type.
+  private static final Object INCOMPATIBLE = new Object();
+
+  @FunctionalInterface
+  private interface ValueConverter {
+
+    Object convert(JsonNode value);
+
+  }
+
+  private final Map<String, List<String>> originalNames;
+  private final RecordConverter recordConverter;
+
+  /**
+   * @param schema Avro schema of the records.
+   * @param standardizedNames map from original json field names to the standardized Avro field
+   *        names, see {@link JsonToAvroSchemaConverter#getStandardizedNames()}.
+   */
+  public JsonToAvroRecordConverter(final Schema schema, final Map<String, String> standardizedNames) {
+    this.originalNames = new HashMap<>();
+    standardizedNames.forEach((original, standardized) -> originalNames.computeIfAbsent(standardized, k -> new ArrayList<>()).add(original));
+    this.recordConverter = new RecordConverter(schema);
+  }
+
+  /**
+   * @param json json object to convert.
+   * @param additionalFields values of the top level fields that are used when the json object does
+   *        not have them.
+   * @return Avro record.
+   */
+  public GenericData.Record convert(final JsonNode json, final Map<String, JsonNode> additionalFields) {
+    final Object record = recordConverter.convert(json, additionalFields);
+    if (record == INCOMPATIBLE) {
+      throw new AvroTypeException(String.format("Failed to convert JSON to Avro: record is expected to be an object of type %s",
+          recordConverter.schema.getFullName()));
+    }
+    return (GenericData.Record) record;
+  }
+
+  private ValueConverter compile(final Schema schema, final String path) {
+    return switch (schema.getType()) {
+      case RECORD -> {
+        final RecordConverter converter = new RecordConverter(schema);
+        yield value -> converter.convert(value, Map.of());
+      }
+      case ARRAY -> {
+        final ValueConverter elementConverter = compile(schema.getElementType(), path + "[]");
+        yield value -> {
+          if (value == null || !value.isArray()) {
+            return INCOMPATIBLE;
+          }
+          final List<Object> elements = new ArrayList<>(value.size());
+          for (final JsonNode element : value) {
+            final Object converted = elementConverter.convert(element);
+            if (converted == INCOMPATIBLE) {
+              throw typeException(path + "[]", schema.getElementType());
+            }
+            elements.add(converted);
+          }
+          return elements;
+        };
+      }
+      case MAP -> {
+        final ValueConverter valueConverter = compile(schema.getValueType(), path + "{}");
+        yield value -> {
+          if (value == null || !value.isObject()) {
+            return INCOMPATIBLE;
+          }
+          final Map<String, Object> entries = new HashMap<>();
+          final Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+          while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> entry = fields.next();
+            final Object converted = valueConverter.convert(entry.getValue());
+            if (converted == INCOMPATIBLE) {
+              throw typeException(path + "{}", schema.getValueType());
+            }
+            entries.put(entry.getKey(), converted);
+          }
+          return entries;
+        };
+      }
+      case UNION -> {
+        final List<ValueConverter> typeConverters = new ArrayList<>();
+        for (final Schema type : schema.getTypes()) {
+          typeConverters.add(compile(type, path));
+        }
+        yield value -> {
+          for (final ValueConverter typeConverter : typeConverters) {
+            try {
+              final Object converted = typeConverter.convert(value);
+              if (converted != INCOMPATIBLE) {
+                return converted;
+              }
+            } catch (final AvroRuntimeException e) {
+              // a nested value does not match this type, try the next one.
+            }
+          }
+          return INCOMPATIBLE;
+        };
+      }
+      case INT -> value -> isNumber(value) ? (Object) value.intValue() : INCOMPATIBLE;
+      case LONG -> value -> isNumber(value) ? (Object) value.longValue() : INCOMPATIBLE;
+      case FLOAT -> value -> isNumber(value) ? (Object) value.floatValue() : INCOMPATIBLE;
+      case DOUBLE -> value -> isNumber(value) ? (Object) value.doubleValue() : INCOMPATIBLE;
+      case BOOLEAN -> value -> value != null && value.isBoolean() ? (Object) value.booleanValue() : INCOMPATIBLE;
+      case STRING -> value -> value != null && value.isTextual() ? value.textValue() : INCOMPATIBLE;
+      case BYTES -> value -> value != null && value.isTextual()
+          ? ByteBuffer.wrap(value.textValue().getBytes(StandardCharsets.UTF_8))
+          : INCOMPATIBLE;
+      case ENUM -> value -> value != null && value.isTextual() && schema.hasEnumSymbol(value.textValue())
+          ? new GenericData.EnumSymbol(schema, value.textValue())
+          : INCOMPATIBLE;
+      case NULL -> value -> value == null || value.isNull() ? null : INCOMPATIBLE;
+      default -> throw new AvroTypeException(String.format("Unsupported type %s of field %s", schema.getType(), path));
+    };
+  }
+
+  private static boolean isNumber(final JsonNode value) {
+    return value != null && value.isNumber();
+  }
+
+  private static AvroTypeException typeException(final String path, final Schema schema) {
+    return new AvroTypeException(String.format("Failed to convert JSON to Avro: field %s is expected to be type: %s", path, schema));
+  }
+
+  private class RecordConverter {
+
+    private final Schema schema;
+    private final Field[] fields;
+    private final String[][] jsonNames;
+    private final ValueConverter[] fieldConverters;
+
+    RecordConverter(final Schema schema) {
+      this.schema = schema;
+      final List<Field> schemaFields = schema.getFields();
+      this.fields = schemaFields.toArray(new Field[0]);
+      this.jsonNames = new String[fields.length][];
+      this.fieldConverters = new ValueConverter[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        final String name = fields[i].name();
+        final List<String> names = new ArrayList<>(originalNames.getOrDefault(name, List.of()));
+        names.add(name);
+        jsonNames[i] = names.toArray(new String[0]);
+        fieldConverters[i] = compile(fields[i].schema(), name);
+      }
+    }
+
+    Object convert(final JsonNode json, final Map<String, JsonNode> additionalFields) {
+      if (json == null || !json.isObject()) {
+        return INCOMPATIBLE;
+      }
+
+      final GenericData.Record record = new GenericData.Record(schema);
+      for (int i = 0; i < fields.length; i++) {
+        JsonNode value = null;
+        for (final String jsonName : jsonNames[i]) {
+          value = json.get(jsonName);
+          if (value != null) {
+            break;
+          }
+        }
+        if (value == null) {
+          value = additionalFields.get(fields[i].name());
+        }
+
+        if (value == null) {
+          if (!fields[i].hasDefaultValue()) {
+            throw new AvroRuntimeException(String.format("Field %s not set and has no default value", fields[i].name()));
+          }
+          record.put(i, GenericData.get().getDefaultValue(fields[i]));
+        } else {
+          final Object converted = fieldConverters[i].convert(value);
+          if (converted == INCOMPATIBLE) {
+            throw typeException(fields[i].name(), fields[i].schema());
+          }
+          record.put(i, converted);
+        }
+      }
+      return record;
+    }
+
+  }
+
+}
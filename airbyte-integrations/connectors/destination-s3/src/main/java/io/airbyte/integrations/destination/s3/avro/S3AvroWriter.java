@@ -27,6 +27,7 @@ package io.airbyte.integrations.destination.s3.avro;
 import alex.mojaki.s3upload.MultiPartOutputStream;
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
@@ -52,18 +53,20 @@ public class S3AvroWriter extends BaseS3Writer implements S3Writer {
   private final AvroRecordFactory avroRecordFactory;
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final DataFileWriter<GenericData.Record> dataFileWriter;
 
   public S3AvroWriter(S3DestinationConfig config,
                       AmazonS3 s3Client,
                       ConfiguredAirbyteStream configuredStream,
                       Timestamp uploadTimestamp,
+                      int partId,
                       Schema schema,
                       JsonFieldNameUpdater nameUpdater)
       throws IOException {
     super(config, s3Client, configuredStream);
 
-    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.AVRO);
+    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, partId, S3Format.AVRO);
     String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full S3 path for stream '{}': {}/{}", stream.getName(), config.getBucketName(),
@@ -73,13 +76,14 @@ public class S3AvroWriter extends BaseS3Writer implements S3Writer {
     this.uploadManager = S3StreamTransferManagerHelper.getDefault(config.getBucketName(), objectKey, s3Client);
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
+    this.countingOutputStream = new CountingOutputStream(outputStream);
 
     S3AvroFormatConfig formatConfig = (S3AvroFormatConfig) config.getFormatConfig();
     // The DataFileWriter always uses binary encoding.
     // If json encoding is needed in the future, use the GenericDatumWriter directly.
     this.dataFileWriter = new DataFileWriter<>(new GenericDatumWriter<Record>())
         .setCodec(formatConfig.getCodecFactory())
-        .create(schema, outputStream);
+        .create(schema, countingOutputStream);
   }
 
   @Override
@@ -87,6 +91,11 @@ public class S3AvroWriter extends BaseS3Writer implements S3Writer {
     dataFileWriter.append(avroRecordFactory.getAvroRecord(id, recordMessage));
   }
 
+  @Override
+  public long getBytesWritten() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     dataFileWriter.close();
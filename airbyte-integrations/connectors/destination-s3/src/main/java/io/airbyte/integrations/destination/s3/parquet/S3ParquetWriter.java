@@ -61,12 +61,13 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
                          AmazonS3 s3Client,
                          ConfiguredAirbyteStream configuredStream,
                          Timestamp uploadTimestamp,
+                         int partId,
                          Schema schema,
                          JsonFieldNameUpdater nameUpdater)
       throws URISyntaxException, IOException {
     super(config, s3Client, configuredStream);
 
-    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.PARQUET);
+    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, partId, S3Format.PARQUET);
     String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full S3 path for stream '{}': {}/{}", stream.getName(), config.getBucketName(),
@@ -110,6 +111,11 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
     parquetWriter.write(avroRecordFactory.getAvroRecord(id, recordMessage));
   }
 
+  @Override
+  public long getBytesWritten() {
+    return parquetWriter.getDataSize();
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     parquetWriter.close();
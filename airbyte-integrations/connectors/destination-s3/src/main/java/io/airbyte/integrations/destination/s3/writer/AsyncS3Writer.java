@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This {@link S3Writer} hands the records over to a dedicated thread that writes them with the
+ * delegate writer, so that the encoding and upload of different streams run in parallel.
+ * <p/>
+ * The records waiting to be written are bounded by a budget that is shared between the writers of
+ * all streams: {@link #write} blocks once the budget is used up, until the workers catch up. The
+ * delegate writer is only closed once all the records handed over to this writer have been
+ * written, so the uploads are complete when {@link #close} returns.
+ */
+public class AsyncS3Writer implements S3Writer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncS3Writer.class);
+
+  private static final long BUDGET_POLL_MILLIS = 100;
+  private static final BufferedRecord END_OF_STREAM = new BufferedRecord(null, null);
+
+  private final S3Writer delegate;
+  private final Semaphore bufferBudget;
+  private final BlockingQueue<BufferedRecord> queue;
+  private final AtomicReference<Exception> failure;
+
+  private ExecutorService executor;
+  private Future<?> worker;
+  private volatile boolean aborted;
+
+  /**
+   * @param delegate writer that the records are written with.
+   * @param bufferBudget number of records that can wait to be written, shared by all the writers.
+   */
+  public AsyncS3Writer(S3Writer delegate, Semaphore bufferBudget) {
+    this.delegate = delegate;
+    this.bufferBudget = bufferBudget;
+    this.queue = new LinkedBlockingQueue<>();
+    this.failure = new AtomicReference<>();
+    this.aborted = false;
+  }
+
+  @Override
+  public void initialize() throws IOException {
+    delegate.initialize();
+    executor = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "async-s3-writer");
+      // do not keep the destination alive if it exits without closing the writer
+      thread.setDaemon(true);
+      return thread;
+    });
+    worker = executor.submit(() -> {
+      writeQueuedRecords();
+      return null;
+    });
+  }
+
+  @Override
+  public void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException {
+    throwIfFailed();
+    try {
+      while (!bufferBudget.tryAcquire(BUDGET_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        throwIfFailed();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the buffered records to be written", e);
+    }
+    queue.add(new BufferedRecord(id, recordMessage));
+  }
+
+  @Override
+  public void close(boolean hasFailed) throws IOException {
+    aborted = hasFailed;
+    queue.add(END_OF_STREAM);
+    try {
+      worker.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      aborted = true;
+      failure.compareAndSet(null, e);
+    } catch (ExecutionException e) {
+      failure.compareAndSet(null, e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (failure.get() != null) {
+      delegate.close(true);
+      throw new IOException("Failed to write records", failure.get());
+    }
+    delegate.close(hasFailed);
+  }
+
+  private void writeQueuedRecords() throws InterruptedException {
+    while (true) {
+      final BufferedRecord record = queue.take();
+      if (record == END_OF_STREAM) {
+        return;
+      }
+      try {
+        // after a failure the remaining records are only drained, to give their budget back
+        if (!aborted && failure.get() == null) {
+          delegate.write(record.id, record.recordMessage);
+        }
+      } catch (Exception e) {
+        LOGGER.error("Failed to write record", e);
+        failure.compareAndSet(null, e);
+      } finally {
+        bufferBudget.release();
+      }
+    }
+  }
+
+  private void throwIfFailed() throws IOException {
+    if (failure.get() != null) {
+      throw new IOException("Failed to write records", failure.get());
+    }
+  }
+
+  private static class BufferedRecord {
+
+    private final UUID id;
+    private final AirbyteRecordMessage recordMessage;
+
+    private BufferedRecord(UUID id, AirbyteRecordMessage recordMessage) {
+      this.id = id;
+      this.recordMessage = recordMessage;
+    }
+
+  }
+
+}
@@ -28,6 +28,8 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3DestinationConstants;
@@ -55,6 +57,7 @@ import org.slf4j.LoggerFactory;
 public abstract class BaseS3Writer implements S3Writer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BaseS3Writer.class);
+  private static final int MAX_KEYS_PER_DELETE = 1000;
 
   protected final S3DestinationConfig config;
   protected final AmazonS3 s3Client;
@@ -87,20 +90,36 @@ public abstract class BaseS3Writer implements S3Writer {
 
     if (syncMode == DestinationSyncMode.OVERWRITE) {
       LOGGER.info("Overwrite mode");
-      List<KeyVersion> keysToDelete = new LinkedList<>();
-      List<S3ObjectSummary> objects = s3Client.listObjects(bucket, outputPrefix)
-          .getObjectSummaries();
-      for (S3ObjectSummary object : objects) {
-        keysToDelete.add(new KeyVersion(object.getKey()));
+      // each page of the listing is deleted with one request, which accepts at most 1000 keys.
+      ObjectListing objects = s3Client.listObjects(new ListObjectsRequest()
+          .withBucketName(bucket)
+          .withPrefix(outputPrefix)
+          .withMaxKeys(MAX_KEYS_PER_DELETE));
+      int deletedCount = 0;
+      while (true) {
+        List<KeyVersion> keysToDelete = new LinkedList<>();
+        for (S3ObjectSummary object : objects.getObjectSummaries()) {
+          keysToDelete.add(new KeyVersion(object.getKey()));
+        }
+
+        if (keysToDelete.size() > 0) {
+          if (deletedCount == 0) {
+            LOGGER.info("Purging non-empty output path for stream '{}' under OVERWRITE mode...",
+                stream.getName());
+          }
+          DeleteObjectsResult result = s3Client
+              .deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keysToDelete));
+          deletedCount += result.getDeletedObjects().size();
+        }
+
+        if (!objects.isTruncated()) {
+          break;
+        }
+        objects = s3Client.listNextBatchOfObjects(objects);
       }
 
-      if (keysToDelete.size() > 0) {
-        LOGGER.info("Purging non-empty output path for stream '{}' under OVERWRITE mode...",
-            stream.getName());
-        DeleteObjectsResult result = s3Client
-            .deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keysToDelete));
-        LOGGER.info("Deleted {} file(s) for stream '{}'.", result.getDeletedObjects().size(),
-            stream.getName());
+      if (deletedCount > 0) {
+        LOGGER.info("Deleted {} file(s) for stream '{}'.", deletedCount, stream.getName());
       }
     }
   }
@@ -137,12 +156,18 @@ public abstract class BaseS3Writer implements S3Writer {
 
   // Filename: <upload-date>_<upload-millis>_0.<format-extension>
   public static String getOutputFilename(Timestamp timestamp, S3Format format) {
+    return getOutputFilename(timestamp, 0, format);
+  }
+
+  // Filename: <upload-date>_<upload-millis>_<part-id>.<format-extension>
+  public static String getOutputFilename(Timestamp timestamp, int partId, S3Format format) {
     DateFormat formatter = new SimpleDateFormat(S3DestinationConstants.YYYY_MM_DD_FORMAT_STRING);
     formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
     return String.format(
-        "%s_%d_0.%s",
+        "%s_%d_%d.%s",
         formatter.format(timestamp),
         timestamp.getTime(),
+        partId,
         format.getFileExtension());
   }
 
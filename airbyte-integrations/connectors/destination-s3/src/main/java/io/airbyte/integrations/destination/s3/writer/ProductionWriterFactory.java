@@ -48,7 +48,8 @@ public class ProductionWriterFactory implements S3WriterFactory {
   public S3Writer create(S3DestinationConfig config,
                          AmazonS3 s3Client,
                          ConfiguredAirbyteStream configuredStream,
-                         Timestamp uploadTimestamp)
+                         Timestamp uploadTimestamp,
+                         int partId)
       throws Exception {
     S3Format format = config.getFormatConfig().getFormat();
 
@@ -64,18 +65,18 @@ public class ProductionWriterFactory implements S3WriterFactory {
       }
 
       if (format == S3Format.AVRO) {
-        return new S3AvroWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, nameUpdater);
+        return new S3AvroWriter(config, s3Client, configuredStream, uploadTimestamp, partId, avroSchema, nameUpdater);
       } else {
-        return new S3ParquetWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, nameUpdater);
+        return new S3ParquetWriter(config, s3Client, configuredStream, uploadTimestamp, partId, avroSchema, nameUpdater);
       }
     }
 
     if (format == S3Format.CSV) {
-      return new S3CsvWriter(config, s3Client, configuredStream, uploadTimestamp);
+      return new S3CsvWriter(config, s3Client, configuredStream, uploadTimestamp, partId);
     }
 
     if (format == S3Format.JSONL) {
-      return new S3JsonlWriter(config, s3Client, configuredStream, uploadTimestamp);
+      return new S3JsonlWriter(config, s3Client, configuredStream, uploadTimestamp, partId);
     }
 
     throw new RuntimeException("Unexpected S3 destination format: " + format);
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This {@link S3Writer} splits the records of a stream into numbered part files. Once the current
+ * part reaches one of the limits of the {@link S3PartRollingConfig}, it is closed in the background
+ * while the following records go to a new part.
+ * <p/>
+ * The limits are checked before each record, so a part is never empty, and a part that stops
+ * receiving records is only closed with the writer. Parts that were closed before a failure are not
+ * removed when the writer is closed with {@code hasFailed}.
+ */
+public class RollingS3Writer implements S3Writer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RollingS3Writer.class);
+
+  // closing a part holds its buffered data until the upload completes, so only a few parts can be
+  // closing at the same time
+  private static final int MAX_CLOSING_PARTS = 2;
+
+  @FunctionalInterface
+  public interface PartWriterFactory {
+
+    S3Writer create(int partId) throws Exception;
+
+  }
+
+  private final PartWriterFactory partWriterFactory;
+  private final S3PartRollingConfig rollingConfig;
+  private final Queue<Future<?>> closingParts;
+
+  private ExecutorService executor;
+  private S3Writer currentPart;
+  private int currentPartId;
+  private long currentPartRecords;
+  private long currentPartStartMillis;
+
+  public RollingS3Writer(PartWriterFactory partWriterFactory, S3PartRollingConfig rollingConfig) {
+    this.partWriterFactory = partWriterFactory;
+    this.rollingConfig = rollingConfig;
+    this.closingParts = new LinkedList<>();
+  }
+
+  /**
+   * Only the first part is initialized, because the initialization prepares the output location of
+   * the whole stream.
+   */
+  @Override
+  public void initialize() throws IOException {
+    executor = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "rolling-s3-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    startPart(0);
+    currentPart.initialize();
+  }
+
+  @Override
+  public void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException {
+    if (isPartFull()) {
+      rollPart();
+    }
+    currentPart.write(id, recordMessage);
+    currentPartRecords++;
+  }
+
+  @Override
+  public long getBytesWritten() {
+    return currentPart.getBytesWritten();
+  }
+
+  @Override
+  public void close(boolean hasFailed) throws IOException {
+    try {
+      currentPart.close(hasFailed);
+      while (!closingParts.isEmpty()) {
+        waitForPart(closingParts.remove());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private boolean isPartFull() {
+    if (currentPartRecords == 0) {
+      return false;
+    }
+    return (rollingConfig.getMaxPartRecords() > 0 && currentPartRecords >= rollingConfig.getMaxPartRecords())
+        || (rollingConfig.getMaxPartBytes() > 0 && currentPart.getBytesWritten() >= rollingConfig.getMaxPartBytes())
+        || (rollingConfig.getMaxPartAgeMillis() > 0
+            && System.currentTimeMillis() - currentPartStartMillis >= rollingConfig.getMaxPartAgeMillis());
+  }
+
+  private void rollPart() throws IOException {
+    while (closingParts.size() >= MAX_CLOSING_PARTS) {
+      waitForPart(closingParts.remove());
+    }
+
+    final S3Writer fullPart = currentPart;
+    LOGGER.info("Closing part {} after {} records.", currentPartId, currentPartRecords);
+    closingParts.add(executor.submit(() -> {
+      fullPart.close(false);
+      return null;
+    }));
+    startPart(currentPartId + 1);
+  }
+
+  private void startPart(int partId) throws IOException {
+    try {
+      currentPart = partWriterFactory.create(partId);
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException(String.format("Failed to create part %d", partId), e);
+    }
+    currentPartId = partId;
+    currentPartRecords = 0;
+    currentPartStartMillis = System.currentTimeMillis();
+  }
+
+  private static void waitForPart(Future<?> closingPart) throws IOException {
+    try {
+      closingPart.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while closing a part", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to close a part", e.getCause());
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits of the part files that the records of a stream are split into. A new part is started once
+ * the current one reaches any of the limits. A limit of 0 means no limit.
+ */
+public class S3PartRollingConfig {
+
+  public static final S3PartRollingConfig NO_ROLLING = new S3PartRollingConfig(0, 0, 0);
+
+  private final long maxPartBytes;
+  private final long maxPartRecords;
+  private final long maxPartAgeMillis;
+
+  public S3PartRollingConfig(long maxPartBytes, long maxPartRecords, long maxPartAgeMillis) {
+    this.maxPartBytes = maxPartBytes;
+    this.maxPartRecords = maxPartRecords;
+    this.maxPartAgeMillis = maxPartAgeMillis;
+  }
+
+  /**
+   * Reads the optional max_part_size_mb, max_part_records and max_part_age_minutes of a destination
+   * config. Rolling is disabled when none of them is set.
+   */
+  public static S3PartRollingConfig getS3PartRollingConfig(JsonNode config) {
+    return new S3PartRollingConfig(
+        getLimit(config, "max_part_size_mb") * 1024 * 1024,
+        getLimit(config, "max_part_records"),
+        TimeUnit.MINUTES.toMillis(getLimit(config, "max_part_age_minutes")));
+  }
+
+  private static long getLimit(JsonNode config, String key) {
+    return config.get(key) == null ? 0 : Math.max(0, config.get(key).asLong());
+  }
+
+  public long getMaxPartBytes() {
+    return maxPartBytes;
+  }
+
+  public long getMaxPartRecords() {
+    return maxPartRecords;
+  }
+
+  public long getMaxPartAgeMillis() {
+    return maxPartAgeMillis;
+  }
+
+  public boolean isEnabled() {
+    return maxPartBytes > 0 || maxPartRecords > 0 || maxPartAgeMillis > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "S3PartRollingConfig{" +
+        "maxPartBytes=" + maxPartBytes +
+        ", maxPartRecords=" + maxPartRecords +
+        ", maxPartAgeMillis=" + maxPartAgeMillis +
+        '}';
+  }
+
+}
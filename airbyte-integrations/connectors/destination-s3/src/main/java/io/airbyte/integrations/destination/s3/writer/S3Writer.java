@@ -44,6 +44,13 @@ public interface S3Writer {
    */
   void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException;
 
+  /**
+   * @return number of bytes written to the S3 object so far, or 0 when the writer does not track it.
+   */
+  default long getBytesWritten() {
+    return 0;
+  }
+
   /**
    * Close the S3 writer for the stream.
    */
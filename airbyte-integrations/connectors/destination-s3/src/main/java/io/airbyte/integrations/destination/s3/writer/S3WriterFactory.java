@@ -37,7 +37,8 @@ public interface S3WriterFactory {
   S3Writer create(S3DestinationConfig config,
                   AmazonS3 s3Client,
                   ConfiguredAirbyteStream configuredStream,
-                  Timestamp uploadTimestamp)
+                  Timestamp uploadTimestamp,
+                  int partId)
       throws Exception;
 
 }
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.UUID;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
+
+class AvroRecordFactoryTest {
+
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("{\n"
+      + "  \"type\": \"object\",\n"
+      + "  \"properties\": {\n"
+      + "    \"id\": { \"type\": \"integer\" },\n"
+      + "    \"price\": { \"type\": \"number\" },\n"
+      + "    \"name-with-dash\": { \"type\": \"string\" },\n"
+      + "    \"active\": { \"type\": [\"null\", \"boolean\"] },\n"
+      + "    \"tags\": { \"type\": \"array\", \"items\": { \"type\": \"string\" } },\n"
+      + "    \"mixed\": { \"type\": \"array\", \"items\": [{ \"type\": \"integer\" }, { \"type\": \"string\" }] },\n"
+      + "    \"choice\": { \"anyOf\": [{ \"type\": \"integer\" }, { \"type\": \"string\" }] },\n"
+      + "    \"address\": {\n"
+      + "      \"type\": \"object\",\n"
+      + "      \"properties\": {\n"
+      + "        \"street name\": { \"type\": \"string\" },\n"
+      + "        \"zip\": { \"type\": \"integer\" }\n"
+      + "      }\n"
+      + "    }\n"
+      + "  }\n"
+      + "}");
+
+  private Schema schema;
+  private JsonFieldNameUpdater nameUpdater;
+  private AvroRecordFactory recordFactory;
+
+  @BeforeEach
+  public void setup() {
+    final JsonToAvroSchemaConverter schemaConverter = new JsonToAvroSchemaConverter();
+    schema = schemaConverter.getAvroSchema(JSON_SCHEMA, "stream", null, true);
+    nameUpdater = new JsonFieldNameUpdater(schemaConverter.getStandardizedNames());
+    recordFactory = new AvroRecordFactory(schema, nameUpdater);
+  }
+
+  @Test
+  public void testFullRecord() throws Exception {
+    assertSameAsJsonAvroConverter(Jsons.deserialize("{\n"
+        + "  \"id\": 10,\n"
+        + "  \"price\": 1.5,\n"
+        + "  \"name-with-dash\": \"abc\",\n"
+        + "  \"active\": true,\n"
+        + "  \"tags\": [\"a\", \"b\"],\n"
+        + "  \"mixed\": [1, \"two\", null],\n"
+        + "  \"choice\": \"string choice\",\n"
+        + "  \"address\": { \"street name\": \"main\", \"zip\": 12345 },\n"
+        + "  \"unknown_field\": \"dropped\"\n"
+        + "}"));
+  }
+
+  @Test
+  public void testMissingAndNullFields() throws Exception {
+    assertSameAsJsonAvroConverter(Jsons.deserialize("{ \"id\": 1, \"active\": null, \"address\": {} }"));
+  }
+
+  @Test
+  public void testNumberCoercion() throws Exception {
+    assertSameAsJsonAvroConverter(Jsons.deserialize("{ \"id\": 1, \"price\": 3, \"choice\": 5 }"));
+  }
+
+  @Test
+  public void testAirbyteFieldsInData() throws Exception {
+    assertSameAsJsonAvroConverter(Jsons.deserialize(String.format("{ \"%s\": 100 }", JavaBaseConstants.COLUMN_NAME_EMITTED_AT)));
+  }
+
+  @Test
+  public void testIncompatibleValue() {
+    final AirbyteRecordMessage message = new AirbyteRecordMessage()
+        .withEmittedAt(1000L)
+        .withData(Jsons.deserialize("{ \"id\": \"not a number\" }"));
+    assertThrows(AvroRuntimeException.class, () -> recordFactory.getAvroRecord(UUID.randomUUID(), message));
+  }
+
+  private void assertSameAsJsonAvroConverter(final JsonNode data) throws Exception {
+    final UUID id = UUID.randomUUID();
+    final AirbyteRecordMessage message = new AirbyteRecordMessage().withEmittedAt(1000L).withData(data);
+
+    final ObjectNode expectedJson = (ObjectNode) Jsons.emptyObject();
+    expectedJson.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    expectedJson.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, message.getEmittedAt());
+    expectedJson.setAll((ObjectNode) nameUpdater.getJsonWithStandardizedFieldNames(data));
+    final GenericData.Record expected = new JsonAvroConverter()
+        .convertToGenericDataRecord(Jsons.serialize(expectedJson).getBytes(), schema);
+
+    assertEquals(expected, recordFactory.getAvroRecord(id, message));
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class AsyncS3WriterTest {
+
+  private static final AirbyteRecordMessage RECORD_1 = new AirbyteRecordMessage().withStream("stream").withEmittedAt(1L);
+  private static final AirbyteRecordMessage RECORD_2 = new AirbyteRecordMessage().withStream("stream").withEmittedAt(2L);
+
+  private S3Writer delegate;
+  private Semaphore bufferBudget;
+  private AsyncS3Writer writer;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    delegate = mock(S3Writer.class);
+    bufferBudget = new Semaphore(1);
+    writer = new AsyncS3Writer(delegate, bufferBudget);
+    writer.initialize();
+  }
+
+  @Test
+  public void testWritesInOrderBeforeClose() throws IOException {
+    final UUID id1 = UUID.randomUUID();
+    final UUID id2 = UUID.randomUUID();
+    writer.write(id1, RECORD_1);
+    writer.write(id2, RECORD_2);
+    writer.close(false);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).initialize();
+    inOrder.verify(delegate).write(id1, RECORD_1);
+    inOrder.verify(delegate).write(id2, RECORD_2);
+    inOrder.verify(delegate).close(false);
+    assertEquals(1, bufferBudget.availablePermits());
+  }
+
+  @Test
+  public void testWriteFailure() throws IOException {
+    doThrow(new IOException("write failed")).when(delegate).write(any(), any());
+    writer.write(UUID.randomUUID(), RECORD_1);
+
+    // the failed record gives its budget back, so the failure is noticed while waiting for it
+    assertThrows(IOException.class, () -> {
+      writer.write(UUID.randomUUID(), RECORD_2);
+      writer.write(UUID.randomUUID(), RECORD_2);
+    });
+    assertThrows(IOException.class, () -> writer.close(false));
+    verify(delegate).close(true);
+    verify(delegate, never()).close(false);
+  }
+
+  @Test
+  public void testAbortedClose() throws IOException {
+    writer.close(true);
+    verify(delegate, never()).write(any(), any());
+    verify(delegate).close(true);
+  }
+
+}
@@ -25,10 +25,31 @@
 package io.airbyte.integrations.destination.s3.writer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class BaseS3WriterTest {
 
@@ -40,4 +61,51 @@ class BaseS3WriterTest {
         BaseS3Writer.getOutputFilename(timestamp, S3Format.CSV));
   }
 
+  @Test
+  public void testGetPartOutputFilename() {
+    Timestamp timestamp = new Timestamp(1471461319000L);
+    assertEquals(
+        "2016_08_17_1471461319000_12.parquet",
+        BaseS3Writer.getOutputFilename(timestamp, 12, S3Format.PARQUET));
+  }
+
+  @Test
+  public void testOverwritePurgesAllPagesOfObjects() {
+    final S3DestinationConfig config = mock(S3DestinationConfig.class);
+    when(config.getBucketName()).thenReturn("bucket");
+    when(config.getBucketPath()).thenReturn("path");
+    final AmazonS3 s3Client = mock(AmazonS3.class);
+    when(s3Client.doesBucketExistV2("bucket")).thenReturn(true);
+    final ObjectListing firstPage = createListing(0, 1000, true);
+    final ObjectListing lastPage = createListing(1000, 1500, false);
+    when(s3Client.listObjects(any(ListObjectsRequest.class))).thenReturn(firstPage);
+    when(s3Client.listNextBatchOfObjects(firstPage)).thenReturn(lastPage);
+    when(s3Client.deleteObjects(any())).thenReturn(new DeleteObjectsResult(Collections.emptyList()));
+
+    final ConfiguredAirbyteStream stream = new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream().withName("stream"))
+        .withDestinationSyncMode(DestinationSyncMode.OVERWRITE);
+    new BaseS3Writer(config, s3Client, stream) {
+
+      @Override
+      public void write(UUID id, AirbyteRecordMessage recordMessage) {}
+
+    }.initialize();
+
+    final ArgumentCaptor<DeleteObjectsRequest> requests = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+    verify(s3Client, times(2)).deleteObjects(requests.capture());
+    assertEquals(List.of(1000, 500), requests.getAllValues().stream().map(r -> r.getKeys().size()).collect(Collectors.toList()));
+  }
+
+  private static ObjectListing createListing(int startInclusive, int endExclusive, boolean truncated) {
+    final ObjectListing listing = new ObjectListing();
+    for (int i = startInclusive; i < endExclusive; i++) {
+      final S3ObjectSummary summary = new S3ObjectSummary();
+      summary.setKey("path/stream/" + i);
+      listing.getObjectSummaries().add(summary);
+    }
+    listing.setTruncated(truncated);
+    return listing;
+  }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RollingS3WriterTest {
+
+  private static final AirbyteRecordMessage RECORD = new AirbyteRecordMessage().withStream("stream").withEmittedAt(1L);
+
+  private List<S3Writer> parts;
+
+  @BeforeEach
+  public void setup() {
+    parts = new ArrayList<>();
+  }
+
+  @Test
+  public void testRollByRecords() throws IOException {
+    final RollingS3Writer writer = new RollingS3Writer(this::createPart, new S3PartRollingConfig(0, 2, 0));
+    writer.initialize();
+    for (int i = 0; i < 5; i++) {
+      writer.write(UUID.randomUUID(), RECORD);
+    }
+    writer.close(false);
+
+    assertEquals(3, parts.size());
+    verify(parts.get(0)).initialize();
+    verify(parts.get(1), never()).initialize();
+    verify(parts.get(0), times(2)).write(any(), any());
+    verify(parts.get(1), times(2)).write(any(), any());
+    verify(parts.get(2), times(1)).write(any(), any());
+    for (final S3Writer part : parts) {
+      verify(part).close(false);
+    }
+  }
+
+  @Test
+  public void testRollByBytes() throws IOException {
+    final RollingS3Writer writer = new RollingS3Writer(partId -> {
+      final S3Writer part = createPart(partId);
+      when(part.getBytesWritten()).thenReturn(100L);
+      return part;
+    }, new S3PartRollingConfig(100, 0, 0));
+    writer.initialize();
+    for (int i = 0; i < 3; i++) {
+      writer.write(UUID.randomUUID(), RECORD);
+    }
+    writer.close(false);
+
+    // each part is full after its first record
+    assertEquals(3, parts.size());
+  }
+
+  @Test
+  public void testNoRollWithinLimits() throws IOException {
+    final RollingS3Writer writer = new RollingS3Writer(this::createPart, new S3PartRollingConfig(1000, 1000, 60_000));
+    writer.initialize();
+    for (int i = 0; i < 10; i++) {
+      writer.write(UUID.randomUUID(), RECORD);
+    }
+    writer.close(true);
+
+    assertEquals(1, parts.size());
+    verify(parts.get(0)).close(true);
+  }
+
+  @Test
+  public void testPartCloseFailure() throws IOException {
+    final RollingS3Writer writer = new RollingS3Writer(partId -> {
+      final S3Writer part = createPart(partId);
+      if (partId == 0) {
+        doThrow(new IOException("upload failed")).when(part).close(false);
+      }
+      return part;
+    }, new S3PartRollingConfig(0, 1, 0));
+    writer.initialize();
+    writer.write(UUID.randomUUID(), RECORD);
+    writer.write(UUID.randomUUID(), RECORD);
+
+    assertThrows(IOException.class, () -> writer.close(false));
+  }
+
+  private S3Writer createPart(int partId) {
+    assertEquals(parts.size(), partId);
+    final S3Writer part = mock(S3Writer.class);
+    parts.add(part);
+    return part;
+  }
+
+}
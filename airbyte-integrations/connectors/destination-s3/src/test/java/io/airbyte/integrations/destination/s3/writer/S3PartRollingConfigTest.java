@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("S3PartRollingConfig")
+class S3PartRollingConfigTest {
+
+  private static final ObjectMapper mapper = MoreMappers.initMapper();
+
+  @Test
+  @DisplayName("When no part limit is specified, rolling is disabled")
+  public void testRollingIsDisabledByDefault() {
+    S3PartRollingConfig rollingConfig = S3PartRollingConfig.getS3PartRollingConfig(mapper.createObjectNode());
+    assertFalse(rollingConfig.isEnabled());
+  }
+
+  @Test
+  @DisplayName("When a part limit is specified, it is converted to bytes, records and milliseconds")
+  public void testGetS3PartRollingConfig() {
+    ObjectNode stubConfig = mapper.createObjectNode();
+    stubConfig.put("max_part_size_mb", 2);
+    stubConfig.put("max_part_records", 100);
+    stubConfig.put("max_part_age_minutes", 3);
+
+    S3PartRollingConfig rollingConfig = S3PartRollingConfig.getS3PartRollingConfig(stubConfig);
+    assertTrue(rollingConfig.isEnabled());
+    assertEquals(2L * 1024 * 1024, rollingConfig.getMaxPartBytes());
+    assertEquals(100, rollingConfig.getMaxPartRecords());
+    assertEquals(3L * 60 * 1000, rollingConfig.getMaxPartAgeMillis());
+  }
+
+}
@@ -159,6 +159,28 @@ public class BigQuerySource extends AbstractRelationalDbSource<StandardSQLTypeNa
         BigQueryUtils.getQueryParameter(cursorFieldType, cursor));
   }
 
+  @Override
+  public AutoCloseableIterator<JsonNode> queryTableOrderedByCursor(BigQueryDatabase database,
+                                                                   List<String> columnNames,
+                                                                   String schemaName,
+                                                                   String tableName,
+                                                                   String cursorField,
+                                                                   StandardSQLTypeName cursorFieldType,
+                                                                   String cursor) {
+    if (cursor == null) {
+      return queryTableWithParams(database, String.format("SELECT %s FROM %s ORDER BY %s ASC",
+          enquoteIdentifierList(columnNames),
+          getFullTableName(schemaName, tableName),
+          cursorField));
+    }
+    return queryTableWithParams(database, String.format("SELECT %s FROM %s WHERE %s > ? ORDER BY %s ASC",
+        enquoteIdentifierList(columnNames),
+        getFullTableName(schemaName, tableName),
+        cursorField,
+        cursorField),
+        BigQueryUtils.getQueryParameter(cursorFieldType, cursor));
+  }
+
   private AutoCloseableIterator<JsonNode> queryTableWithParams(BigQueryDatabase database, String sqlQuery, QueryParameterValue... params) {
     return AutoCloseableIterators.lazyIterator(() -> {
       try {
@@ -25,6 +25,7 @@
 package io.airbyte.integrations.source.jdbc;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.functional.CheckedConsumer;
@@ -33,7 +34,9 @@ import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.db.Databases;
 import io.airbyte.db.SqlDatabase;
+import io.airbyte.db.jdbc.FetchSizeEstimator;
 import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.db.jdbc.JdbcRowDecoder;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.integrations.base.Source;
@@ -41,9 +44,12 @@ import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -78,6 +84,18 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
   private static final String INTERNAL_COLUMN_NAME = "columnName";
   private static final String INTERNAL_COLUMN_TYPE = "columnType";
 
+  // optional source config options that tune how tables are read. sources that support them declare
+  // them in their spec.
+  public static final String STATE_EMISSION_FREQUENCY_KEY = "state_emission_frequency";
+  public static final String STATE_EMISSION_INTERVAL_SECONDS_KEY = "state_emission_interval_seconds";
+  public static final String FULL_REFRESH_READ_PARALLELISM_KEY = "full_refresh_read_parallelism";
+  public static final String TABLE_READ_PARALLELISM_KEY = "table_read_parallelism";
+  public static final String FETCH_TARGET_MEGABYTES_KEY = "fetch_target_megabytes";
+
+  private static final Set<JDBCType> CHUNKABLE_PRIMARY_KEY_TYPES = Set.of(JDBCType.TINYINT, JDBCType.SMALLINT, JDBCType.INTEGER, JDBCType.BIGINT);
+  // records read by the concurrent chunks of a table that have not been emitted yet.
+  private static final int CHUNKED_READ_BUFFER_SIZE = 10_000;
+
   private final String driverClass;
   private final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
   private String quoteString;
@@ -221,6 +239,71 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
     return quoteString;
   }
 
+  @Override
+  protected int getStateEmissionFrequency(JsonNode config) {
+    return config.hasNonNull(STATE_EMISSION_FREQUENCY_KEY) ? config.get(STATE_EMISSION_FREQUENCY_KEY).asInt() : 0;
+  }
+
+  @Override
+  protected Duration getStateEmissionInterval(JsonNode config) {
+    return config.hasNonNull(STATE_EMISSION_INTERVAL_SECONDS_KEY) && config.get(STATE_EMISSION_INTERVAL_SECONDS_KEY).asLong() > 0
+        ? Duration.ofSeconds(config.get(STATE_EMISSION_INTERVAL_SECONDS_KEY).asLong())
+        : null;
+  }
+
+  @Override
+  protected int getFullRefreshReadParallelism(JsonNode config) {
+    return config.hasNonNull(FULL_REFRESH_READ_PARALLELISM_KEY) ? Math.max(1, config.get(FULL_REFRESH_READ_PARALLELISM_KEY).asInt()) : 1;
+  }
+
+  @Override
+  protected int getTableReadParallelism(JsonNode config) {
+    return config.hasNonNull(TABLE_READ_PARALLELISM_KEY) ? Math.max(1, config.get(TABLE_READ_PARALLELISM_KEY).asInt()) : 1;
+  }
+
+  /**
+   * The number of bytes that the fetches of a single query should hold. The configured (or default)
+   * budget is shared by all the queries that can be open at the same time when tables or chunks of
+   * a table are read concurrently.
+   */
+  @VisibleForTesting
+  long getTargetFetchBytes(JsonNode config) {
+    final long totalFetchBytes = config.hasNonNull(FETCH_TARGET_MEGABYTES_KEY) && config.get(FETCH_TARGET_MEGABYTES_KEY).asLong() > 0
+        ? config.get(FETCH_TARGET_MEGABYTES_KEY).asLong() * 1024 * 1024
+        : FetchSizeEstimator.DEFAULT_TARGET_FETCH_BYTES;
+    return totalFetchBytes / ((long) getTableReadParallelism(config) * getFullRefreshReadParallelism(config));
+  }
+
+  /**
+   * Creates the decoder that converts the rows of a single table query into records. Override to
+   * change how columns of a given type are read, see {@link JdbcRowDecoder#JdbcRowDecoder(Map)}.
+   *
+   * @return a new row decoder.
+   */
+  protected JdbcRowDecoder createRowDecoder() {
+    return new JdbcRowDecoder();
+  }
+
+  @Override
+  public AutoCloseableIterator<JsonNode> queryTableFullRefresh(JdbcDatabase database,
+                                                               List<String> columnNames,
+                                                               String schemaName,
+                                                               String tableName) {
+    LOGGER.info("Queueing query for table: {}", tableName);
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.query(
+            connection -> connection.prepareStatement(String.format("SELECT %s FROM %s",
+                enquoteIdentifierList(columnNames),
+                getFullTableName(schemaName, tableName))),
+            createRowDecoder());
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @Override
   public AutoCloseableIterator<JsonNode> queryTableIncremental(JdbcDatabase database,
                                                                List<String> columnNames,
@@ -229,24 +312,186 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
                                                                String cursorField,
                                                                JDBCType cursorFieldType,
                                                                String cursor) {
+    return queryTableWithCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, cursor, false);
+  }
+
+  @Override
+  public AutoCloseableIterator<JsonNode> queryTableOrderedByCursor(JdbcDatabase database,
+                                                                   List<String> columnNames,
+                                                                   String schemaName,
+                                                                   String tableName,
+                                                                   String cursorField,
+                                                                   JDBCType cursorFieldType,
+                                                                   String cursor) {
+    return queryTableWithCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, cursor, true);
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableWithCursor(JdbcDatabase database,
+                                                               List<String> columnNames,
+                                                               String schemaName,
+                                                               String tableName,
+                                                               String cursorField,
+                                                               JDBCType cursorFieldType,
+                                                               String cursor,
+                                                               boolean orderByCursor) {
     LOGGER.info("Queueing query for table: {}", tableName);
     return AutoCloseableIterators.lazyIterator(() -> {
       try {
         final Stream<JsonNode> stream = database.query(
             connection -> {
               LOGGER.info("Preparing query for table: {}", tableName);
-              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?",
+              final String quotedCursorField = SourceJdbcUtils.enquoteIdentifier(connection, cursorField);
+              final StringBuilder sql = new StringBuilder(String.format("SELECT %s FROM %s",
                   SourceJdbcUtils.enquoteIdentifierList(connection, columnNames),
                   SourceJdbcUtils
-                      .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  SourceJdbcUtils.enquoteIdentifier(connection, cursorField));
+                      .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName)));
+              // an ordered read without cursor is the first read of the stream and returns all records.
+              final boolean filterByCursor = !orderByCursor || cursor != null;
+              if (filterByCursor) {
+                sql.append(String.format(" WHERE %s > ?", quotedCursorField));
+              }
+              if (orderByCursor) {
+                sql.append(String.format(" ORDER BY %s ASC", quotedCursorField));
+              }
 
-              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
-              SourceJdbcUtils.setStatementField(preparedStatement, 1, cursorFieldType, cursor);
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
+              if (filterByCursor) {
+                SourceJdbcUtils.setStatementField(preparedStatement, 1, cursorFieldType, cursor);
+              }
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
-            JdbcUtils::rowToJson);
+            createRowDecoder());
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  /**
+   * Splits the table into ranges of its primary key of roughly the same width, based on the minimum
+   * and maximum primary key, and reads each range with its own query and connection. Only integer
+   * primary keys are split, tables with other primary keys are read with a single query.
+   */
+  @Override
+  public AutoCloseableIterator<JsonNode> queryTableFullRefreshInChunks(JdbcDatabase database,
+                                                                       List<String> columnNames,
+                                                                       String schemaName,
+                                                                       String tableName,
+                                                                       String primaryKey,
+                                                                       JDBCType primaryKeyType,
+                                                                       int chunks) {
+    if (!CHUNKABLE_PRIMARY_KEY_TYPES.contains(primaryKeyType)) {
+      LOGGER.info("Reading table {} with a single query because its primary key {} has type {}", tableName, primaryKey, primaryKeyType);
+      return queryTableFullRefresh(database, columnNames, schemaName, tableName);
+    }
+
+    LOGGER.info("Queueing chunked query for table: {}", tableName);
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final List<BigDecimal[]> bounds = database.bufferedResultSetQuery(
+            connection -> {
+              final String quotedPrimaryKey = SourceJdbcUtils.enquoteIdentifier(connection, primaryKey);
+              return connection.createStatement().executeQuery(String.format("SELECT MIN(%s), MAX(%s) FROM %s",
+                  quotedPrimaryKey,
+                  quotedPrimaryKey,
+                  SourceJdbcUtils.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName)));
+            },
+            // the minimum is only null when the table is empty.
+            // read as decimals, because unsigned keys (e.g. BIGINT UNSIGNED in MySQL) can exceed a long.
+            resultSet -> resultSet.getObject(1) == null ? null : new BigDecimal[] {resultSet.getBigDecimal(1), resultSet.getBigDecimal(2)});
+        if (bounds.isEmpty() || bounds.get(0) == null) {
+          LOGGER.info("Table {} is empty", tableName);
+          return AutoCloseableIterators.fromIterator(Collections.emptyIterator());
+        }
+        if (!fitsInLong(bounds.get(0)[0]) || !fitsInLong(bounds.get(0)[1])) {
+          LOGGER.info("Reading table {} with a single query because its primary key {} exceeds the range of a long", tableName, primaryKey);
+          return queryTableFullRefresh(database, columnNames, schemaName, tableName);
+        }
+
+        final List<Long> boundaries = getChunkBoundaries(bounds.get(0)[0].longValueExact(), bounds.get(0)[1].longValueExact(), chunks);
+        LOGGER.info("Reading table {} in {} chunks split at {}: {}", tableName, boundaries.size() + 1, primaryKey, boundaries);
+        final List<AutoCloseableIterator<JsonNode>> chunkIterators = new ArrayList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+          chunkIterators.add(queryTableChunk(
+              database,
+              columnNames,
+              schemaName,
+              tableName,
+              primaryKey,
+              i == 0 ? null : boundaries.get(i - 1),
+              i == boundaries.size() ? null : boundaries.get(i)));
+        }
+        return AutoCloseableIterators.mergeConcurrently(chunkIterators, chunks, CHUNKED_READ_BUFFER_SIZE);
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private static boolean fitsInLong(BigDecimal value) {
+    return value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0 && value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+  }
+
+  /**
+   * Splits [min, max] into at most the given number of ranges of roughly the same width.
+   *
+   * @return the ascending values at which the ranges are split. each value is the inclusive lower
+   *         bound of a range and the exclusive upper bound of the range before it.
+   */
+  @VisibleForTesting
+  static List<Long> getChunkBoundaries(long min, long max, int chunks) {
+    final BigInteger lower = BigInteger.valueOf(min);
+    final BigInteger width = BigInteger.valueOf(max).subtract(lower).add(BigInteger.ONE);
+    final List<Long> boundaries = new ArrayList<>();
+    for (int i = 1; i < chunks; i++) {
+      final long boundary = lower.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(chunks))).longValueExact();
+      if (boundary > min && (boundaries.isEmpty() || boundary > boundaries.get(boundaries.size() - 1))) {
+        boundaries.add(boundary);
+      }
+    }
+    return boundaries;
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableChunk(JdbcDatabase database,
+                                                          List<String> columnNames,
+                                                          String schemaName,
+                                                          String tableName,
+                                                          String primaryKey,
+                                                          Long lowerBound,
+                                                          Long upperBound) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.query(
+            connection -> {
+              final String quotedPrimaryKey = SourceJdbcUtils.enquoteIdentifier(connection, primaryKey);
+              final List<String> conditions = new ArrayList<>();
+              if (lowerBound != null) {
+                conditions.add(String.format("%s >= ?", quotedPrimaryKey));
+              }
+              if (upperBound != null) {
+                conditions.add(String.format("%s < ?", quotedPrimaryKey));
+              }
+              final StringBuilder sql = new StringBuilder(String.format("SELECT %s FROM %s",
+                  SourceJdbcUtils.enquoteIdentifierList(connection, columnNames),
+                  SourceJdbcUtils.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName)));
+              if (!conditions.isEmpty()) {
+                sql.append(" WHERE ").append(String.join(" AND ", conditions));
+              }
+
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
+              int parameterIndex = 1;
+              if (lowerBound != null) {
+                preparedStatement.setLong(parameterIndex++, lowerBound);
+              }
+              if (upperBound != null) {
+                preparedStatement.setLong(parameterIndex, upperBound);
+              }
+              LOGGER.info("Executing query for chunk [{}, {}) of table: {}", lowerBound, upperBound, tableName);
+              return preparedStatement;
+            },
+            createRowDecoder());
         return AutoCloseableIterators.fromStream(stream);
       } catch (SQLException e) {
         throw new RuntimeException(e);
@@ -264,7 +509,8 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
         jdbcConfig.get("jdbc_url").asText(),
         driverClass,
         jdbcStreamingQueryConfiguration,
-        jdbcConfig.has("connection_properties") ? jdbcConfig.get("connection_properties").asText() : null);
+        jdbcConfig.has("connection_properties") ? jdbcConfig.get("connection_properties").asText() : null,
+        getTargetFetchBytes(config));
 
     quoteString = (quoteString == null ? database.getMetaData().getIdentifierQuoteString() : quoteString);
 
@@ -53,7 +53,7 @@ public class SourceJdbcUtils {
       case TIME, TIMESTAMP -> {
         try {
           preparedStatement.setTimestamp(parameterIndex, Timestamp
-              .from(DataTypeUtils.DATE_FORMAT.parse(value).toInstant()));
+              .from(DataTypeUtils.fromISO8601String(value).toInstant()));
         } catch (ParseException e) {
           throw new RuntimeException(e);
         }
@@ -61,7 +61,7 @@ public class SourceJdbcUtils {
 
       case DATE -> {
         try {
-          Timestamp from = Timestamp.from(DataTypeUtils.DATE_FORMAT.parse(value).toInstant());
+          Timestamp from = Timestamp.from(DataTypeUtils.fromISO8601String(value).toInstant());
           preparedStatement.setDate(parameterIndex, new Date(from.getTime()));
         } catch (ParseException e) {
           throw new RuntimeException(e);
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.db.jdbc.FetchSizeEstimator;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AbstractJdbcSourceTest {
+
+  @Test
+  void testChunkBoundaries() {
+    assertEquals(List.of(26L, 51L, 76L), AbstractJdbcSource.getChunkBoundaries(1, 100, 4));
+  }
+
+  @Test
+  void testChunkBoundariesWithFewerKeysThanChunks() {
+    assertEquals(List.of(2L, 3L), AbstractJdbcSource.getChunkBoundaries(1, 3, 8));
+    assertEquals(Collections.emptyList(), AbstractJdbcSource.getChunkBoundaries(5, 5, 8));
+  }
+
+  @Test
+  void testChunkBoundariesDoNotOverflow() {
+    final List<Long> boundaries = AbstractJdbcSource.getChunkBoundaries(Long.MIN_VALUE, Long.MAX_VALUE, 2);
+    assertEquals(List.of(0L), boundaries);
+  }
+
+  @Test
+  void testTargetFetchBytesIsSharedByConcurrentQueries() {
+    final AbstractJdbcSource source = new TestJdbcSource();
+
+    assertEquals(FetchSizeEstimator.DEFAULT_TARGET_FETCH_BYTES, source.getTargetFetchBytes(Jsons.emptyObject()));
+    assertEquals(8L * 1024 * 1024, source.getTargetFetchBytes(Jsons.jsonNode(ImmutableMap.of(AbstractJdbcSource.FETCH_TARGET_MEGABYTES_KEY, 8))));
+    assertEquals(1024L * 1024, source.getTargetFetchBytes(Jsons.jsonNode(ImmutableMap.of(
+        AbstractJdbcSource.FETCH_TARGET_MEGABYTES_KEY, 8,
+        AbstractJdbcSource.TABLE_READ_PARALLELISM_KEY, 2,
+        AbstractJdbcSource.FULL_REFRESH_READ_PARALLELISM_KEY, 4))));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testChunkedReadFallsBackToSingleQueryForUnsignedKeysOutOfLongRange() throws Exception {
+    final AutoCloseableIterator<JsonNode> fullRefreshIterator = AutoCloseableIterators.fromIterator(Collections.emptyIterator());
+    final AbstractJdbcSource source = new TestJdbcSource() {
+
+      @Override
+      public AutoCloseableIterator<JsonNode> queryTableFullRefresh(JdbcDatabase database,
+                                                                   List<String> columnNames,
+                                                                   String schemaName,
+                                                                   String tableName) {
+        return fullRefreshIterator;
+      }
+
+    };
+    final JdbcDatabase database = mock(JdbcDatabase.class);
+    // the maximum is the largest value of a BIGINT UNSIGNED column in MySQL.
+    when(database.bufferedResultSetQuery(any(), any()))
+        .thenReturn(List.of(new BigDecimal[] {BigDecimal.ZERO, new BigDecimal("18446744073709551615")}));
+
+    final AutoCloseableIterator<JsonNode> iterator =
+        source.queryTableFullRefreshInChunks(database, List.of("id"), "public", "id_and_name", "id", JDBCType.BIGINT, 4);
+
+    assertFalse(iterator.hasNext());
+    // only the bounds query was run, the rows are read by the single query.
+    verify(database).bufferedResultSetQuery(any(), any());
+    verifyNoMoreInteractions(database);
+  }
+
+  private static class TestJdbcSource extends AbstractJdbcSource {
+
+    TestJdbcSource() {
+      super("driver", (connection, statement) -> {});
+    }
+
+    @Override
+    public JsonNode toDatabaseConfig(JsonNode config) {
+      return config;
+    }
+
+    @Override
+    public Set<String> getExcludedInternalNameSpaces() {
+      return Collections.emptySet();
+    }
+
+  }
+
+}
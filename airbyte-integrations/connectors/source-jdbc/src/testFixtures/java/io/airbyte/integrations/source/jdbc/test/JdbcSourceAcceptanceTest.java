@@ -67,7 +67,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -350,6 +352,19 @@ public abstract class JdbcSourceAcceptanceTest {
     assertThat(actualMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
   }
 
+  @Test
+  void testReadInChunks() throws Exception {
+    ((ObjectNode) config).put(AbstractJdbcSource.FULL_REFRESH_READ_PARALLELISM_KEY, 2);
+    final List<AirbyteMessage> actualMessages =
+        MoreIterators.toList(
+            source.read(config, getConfiguredCatalogWithOneStream(getDefaultNamespace()), null));
+
+    setEmittedAtToNull(actualMessages);
+    List<AirbyteMessage> expectedMessages = getTestMessages();
+    assertThat(expectedMessages, Matchers.containsInAnyOrder(actualMessages.toArray()));
+    assertThat(actualMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
+  }
+
   @Test
   void testReadOneColumn() throws Exception {
     final ConfiguredAirbyteCatalog catalog = CatalogHelpers
@@ -710,6 +725,99 @@ public abstract class JdbcSourceAcceptanceTest {
     assertTrue(actualMessagesFirstSync.containsAll(expectedMessagesFirstSync));
   }
 
+  @Test
+  void testReadIncrementallyWithIntermediateStates() throws Exception {
+    ((ObjectNode) config).put(AbstractJdbcSource.STATE_EMISSION_FREQUENCY_KEY, 1);
+    final String namespace = getDefaultNamespace();
+    final ConfiguredAirbyteCatalog configuredCatalog = getConfiguredCatalogWithOneStream(namespace);
+    configuredCatalog.getStreams().forEach(airbyteStream -> {
+      airbyteStream.setSyncMode(SyncMode.INCREMENTAL);
+      airbyteStream.setCursorField(Lists.newArrayList(COL_ID));
+      airbyteStream.setDestinationSyncMode(DestinationSyncMode.APPEND);
+    });
+
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(config, configuredCatalog, null));
+
+    setEmittedAtToNull(actualMessages);
+    // records are read in cursor order. a state only covers a cursor value once a record with a higher
+    // value was read.
+    final List<AirbyteMessage> expectedMessages = List.of(
+        getTestMessages().get(0),
+        getTestMessages().get(1),
+        createStateMessage(namespace, "1"),
+        getTestMessages().get(2),
+        createStateMessage(namespace, "3"));
+    assertEquals(expectedMessages, actualMessages);
+  }
+
+  @Test
+  void testReadMultipleTablesIncrementallyConcurrently() throws Exception {
+    ((ObjectNode) config).put(AbstractJdbcSource.TABLE_READ_PARALLELISM_KEY, 2);
+    ((ObjectNode) config).put(AbstractJdbcSource.STATE_EMISSION_FREQUENCY_KEY, 1);
+    final String tableName2 = TABLE_NAME + 2;
+    final String streamName2 = streamName + 2;
+    database.execute(ctx -> {
+      ctx.createStatement().execute(
+          createTableQuery(getFullyQualifiedTableName(tableName2), "id INTEGER, name VARCHAR(200)", ""));
+      for (int i = 1; i <= 100; i++) {
+        ctx.createStatement().execute(
+            String.format("INSERT INTO %s(id, name) VALUES (%s, 'picard')", getFullyQualifiedTableName(tableName2), i));
+      }
+    });
+
+    final String namespace = getDefaultNamespace();
+    final ConfiguredAirbyteCatalog configuredCatalog = getConfiguredCatalogWithOneStream(namespace);
+    configuredCatalog.getStreams().add(CatalogHelpers.createConfiguredAirbyteStream(
+        streamName2,
+        namespace,
+        Field.of(COL_ID, JsonSchemaPrimitive.NUMBER),
+        Field.of(COL_NAME, JsonSchemaPrimitive.STRING)));
+    configuredCatalog.getStreams().forEach(airbyteStream -> {
+      airbyteStream.setSyncMode(SyncMode.INCREMENTAL);
+      airbyteStream.setCursorField(Lists.newArrayList(COL_ID));
+      airbyteStream.setDestinationSyncMode(DestinationSyncMode.APPEND);
+    });
+
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(config, configuredCatalog, null));
+
+    // the records of each stream keep their cursor order, and no state message covers a cursor of
+    // either stream before the records up to that cursor were emitted.
+    final Map<String, Integer> lastRecordCursors = new HashMap<>();
+    for (final AirbyteMessage message : actualMessages) {
+      if (message.getType() == Type.RECORD) {
+        final int cursor = message.getRecord().getData().get(COL_ID).asInt();
+        final Integer previousCursor = lastRecordCursors.put(message.getRecord().getStream(), cursor);
+        assertEquals(previousCursor == null ? 1 : previousCursor + 1, cursor);
+      } else {
+        for (final DbStreamState streamState : Jsons.object(message.getState().getData(), DbState.class).getStreams()) {
+          if (streamState.getCursor() != null) {
+            assertTrue(Integer.parseInt(streamState.getCursor()) <= lastRecordCursors.getOrDefault(streamState.getStreamName(), 0));
+          }
+        }
+      }
+    }
+    assertEquals(Map.of(streamName, 3, streamName2, 100), lastRecordCursors);
+
+    final AirbyteMessage lastMessage = actualMessages.get(actualMessages.size() - 1);
+    assertEquals(Type.STATE, lastMessage.getType());
+    assertEquals(Set.of("3", "100"), Jsons.object(lastMessage.getState().getData(), DbState.class).getStreams().stream()
+        .map(DbStreamState::getCursor)
+        .collect(Collectors.toSet()));
+  }
+
+  private AirbyteMessage createStateMessage(String namespace, String cursor) {
+    return new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage()
+            .withData(Jsons.jsonNode(new DbState()
+                .withCdc(false)
+                .withStreams(Lists.newArrayList(new DbStreamState()
+                    .withStreamName(streamName)
+                    .withStreamNamespace(namespace)
+                    .withCursorField(ImmutableList.of(COL_ID))
+                    .withCursor(cursor))))));
+  }
+
   // when initial and final cursor fields are the same.
   private void incrementalCursorCheck(
                                       String cursorField,
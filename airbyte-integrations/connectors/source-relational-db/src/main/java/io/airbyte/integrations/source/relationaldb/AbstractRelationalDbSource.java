@@ -53,6 +53,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.SyncMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -81,6 +82,9 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractRelationalDbSource.class);
 
+  // records read by concurrent table reads that have not been emitted yet.
+  private static final int CONCURRENT_READ_BUFFER_SIZE = 10_000;
+
   /**
    * Map a database implementation-specific configuration to json object that adheres to the database
    * config spec. See resources/spec.json.
@@ -160,6 +164,59 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
    */
   protected abstract String getQuoteString();
 
+  /**
+   * Number of records after which incremental reads emit an intermediate state message. When this or
+   * {@link #getStateEmissionInterval(JsonNode)} is set, incremental reads are ordered by the cursor
+   * field (see {@link #queryTableOrderedByCursor}) so that a failed sync can resume from the last
+   * state instead of from the cursor of the previous sync.
+   *
+   * @param config source config
+   * @return number of records between intermediate states, 0 to only emit state at the end of each
+   *         stream.
+   */
+  protected int getStateEmissionFrequency(final JsonNode config) {
+    return 0;
+  }
+
+  /**
+   * Time after which incremental reads emit an intermediate state message.
+   *
+   * @param config source config
+   * @return time between intermediate states, null to not emit states based on time.
+   * @see #getStateEmissionFrequency(JsonNode)
+   */
+  protected Duration getStateEmissionInterval(final JsonNode config) {
+    return null;
+  }
+
+  /**
+   * Number of chunks that full refresh reads split a table into and read concurrently. Tables are
+   * only split when they have a single column primary key (see
+   * {@link #queryTableFullRefreshInChunks}), other tables are always read with a single query.
+   * Records of a chunked read are not returned in table order.
+   *
+   * @param config source config
+   * @return number of concurrent chunks per table, 1 to read each table with a single query.
+   */
+  protected int getFullRefreshReadParallelism(final JsonNode config) {
+    return 1;
+  }
+
+  /**
+   * Number of streams that are read at the same time. Records of different streams are interleaved
+   * in the output, but the records and state messages of each stream keep their order.
+   *
+   * @param config source config
+   * @return number of concurrently read streams, 1 to read one stream after the other.
+   */
+  protected int getTableReadParallelism(final JsonNode config) {
+    return 1;
+  }
+
+  private boolean emitsIntermediateState(final JsonNode config) {
+    return getStateEmissionFrequency(config) > 0 || getStateEmissionInterval(config) != null;
+  }
+
   @Override
   public AirbyteConnectionStatus check(final JsonNode config) throws Exception {
     try (final Database database = createDatabaseInternal(config)) {
@@ -214,8 +271,16 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    // a state message is only created after all records of its stream up to its cursor were handed to
+    // the merge, whose buffer is first in first out. so concurrent reads never emit a state message
+    // ahead of the records it covers, not even the cursors of the other streams it includes.
+    final int tableReadParallelism = getTableReadParallelism(config);
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = tableReadParallelism > 1
+        ? AutoCloseableIterators.mergeConcurrently(iteratorList, tableReadParallelism, CONCURRENT_READ_BUFFER_SIZE)
+        : AutoCloseableIterators.concatWithEagerClose(iteratorList);
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(messageIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(database::close);
           LOGGER.info("Closed database connection pool.");
@@ -288,6 +353,7 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
     final String streamName = airbyteStream.getStream().getName();
     final String namespace = airbyteStream.getStream().getNamespace();
     final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+    final JsonNode sourceConfig = database.getSourceConfig();
     final Set<String> selectedFieldsInCatalog = CatalogHelpers.getTopLevelFieldNames(airbyteStream);
     final List<String> selectedDatabaseFields = table.getFields()
         .stream()
@@ -301,7 +367,10 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
       final Optional<String> cursorOptional = stateManager.getCursor(pair);
 
       final AutoCloseableIterator<AirbyteMessage> airbyteMessageIterator;
-      if (cursorOptional.isPresent()) {
+      if (emitsIntermediateState(sourceConfig)) {
+        airbyteMessageIterator =
+            getOrderedIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.orElse(null), emittedAt);
+      } else if (cursorOptional.isPresent()) {
         airbyteMessageIterator = getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.get(), emittedAt);
       } else {
         // if no cursor is present then this is the first read for is the same as doing a full refresh read.
@@ -317,10 +386,14 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
           pair,
           cursorField,
           cursorOptional.orElse(null),
-          cursorType),
+          cursorType,
+          getStateEmissionFrequency(sourceConfig),
+          getStateEmissionInterval(sourceConfig)),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      iterator = getFullRefreshReadParallelism(sourceConfig) > 1
+          ? getChunkedFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, emittedAt)
+          : getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -346,14 +419,7 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
     final String streamName = airbyteStream.getStream().getName();
     final String namespace = airbyteStream.getStream().getNamespace();
     final String cursorField = IncrementalUtils.getCursorField(airbyteStream);
-    final DataType cursorType = table.getFields().stream()
-        .filter(info -> info.getName().equals(cursorField))
-        .map(CommonField::getType)
-        .findFirst()
-        .orElseThrow();
-
-    Preconditions.checkState(table.getFields().stream().anyMatch(f -> f.getName().equals(cursorField)),
-        String.format("Could not find cursor field %s in table %s", cursorField, table.getName()));
+    final DataType cursorType = getCursorType(table, cursorField);
 
     final AutoCloseableIterator<JsonNode> queryIterator = queryTableIncremental(
         database,
@@ -367,6 +433,40 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
     return getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  protected AutoCloseableIterator<AirbyteMessage> getOrderedIncrementalStream(final Database database,
+                                                                              final ConfiguredAirbyteStream airbyteStream,
+                                                                              final List<String> selectedDatabaseFields,
+                                                                              final TableInfo<CommonField<DataType>> table,
+                                                                              final String cursor,
+                                                                              final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final String cursorField = IncrementalUtils.getCursorField(airbyteStream);
+    final DataType cursorType = getCursorType(table, cursorField);
+
+    final AutoCloseableIterator<JsonNode> queryIterator = queryTableOrderedByCursor(
+        database,
+        selectedDatabaseFields,
+        table.getNameSpace(),
+        table.getName(),
+        cursorField,
+        cursorType,
+        cursor);
+
+    return getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli());
+  }
+
+  private DataType getCursorType(final TableInfo<CommonField<DataType>> table, final String cursorField) {
+    Preconditions.checkState(table.getFields().stream().anyMatch(f -> f.getName().equals(cursorField)),
+        String.format("Could not find cursor field %s in table %s", cursorField, table.getName()));
+
+    return table.getFields().stream()
+        .filter(info -> info.getName().equals(cursorField))
+        .map(CommonField::getType)
+        .findFirst()
+        .orElseThrow();
+  }
+
   protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final Database database,
                                                                        final String streamName,
                                                                        final String namespace,
@@ -378,6 +478,33 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
     return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  protected AutoCloseableIterator<AirbyteMessage> getChunkedFullRefreshStream(final Database database,
+                                                                              final ConfiguredAirbyteStream airbyteStream,
+                                                                              final List<String> selectedDatabaseFields,
+                                                                              final TableInfo<CommonField<DataType>> table,
+                                                                              final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final List<List<String>> primaryKey = airbyteStream.getStream().getSourceDefinedPrimaryKey();
+    final Optional<CommonField<DataType>> primaryKeyField = primaryKey != null && primaryKey.size() == 1 && primaryKey.get(0).size() == 1
+        ? table.getFields().stream().filter(f -> f.getName().equals(primaryKey.get(0).get(0))).findFirst()
+        : Optional.empty();
+    if (primaryKeyField.isEmpty()) {
+      LOGGER.info("Reading table {} with a single query because it does not have a single column primary key", table.getName());
+      return getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+    }
+
+    final AutoCloseableIterator<JsonNode> queryStream = queryTableFullRefreshInChunks(
+        database,
+        selectedDatabaseFields,
+        table.getNameSpace(),
+        table.getName(),
+        primaryKeyField.get().getName(),
+        primaryKeyField.get().getType(),
+        getFullRefreshReadParallelism(database.getSourceConfig()));
+    return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
+  }
+
   protected String getFullyQualifiedTableName(final String nameSpace, final String tableName) {
     return nameSpace != null ? nameSpace + "." + tableName : tableName;
   }
@@ -482,6 +609,29 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
         getFullTableName(schemaName, tableName)));
   }
 
+  /**
+   * Read all data from a table by splitting it into ranges of its primary key and reading the ranges
+   * concurrently. By default, the table is read with a single query.
+   *
+   * @param database source database
+   * @param columnNames interested column names
+   * @param schemaName table namespace
+   * @param tableName target table
+   * @param primaryKey name of the single primary key column
+   * @param primaryKeyType primary key column type
+   * @param chunks maximum number of ranges that are read concurrently
+   * @return iterator with read data, in no particular order
+   */
+  public AutoCloseableIterator<JsonNode> queryTableFullRefreshInChunks(final Database database,
+                                                                       final List<String> columnNames,
+                                                                       final String schemaName,
+                                                                       final String tableName,
+                                                                       final String primaryKey,
+                                                                       final DataType primaryKeyType,
+                                                                       final int chunks) {
+    return queryTableFullRefresh(database, columnNames, schemaName, tableName);
+  }
+
   /**
    * Read incremental data from a table. Incremental read should returns only records where cursor
    * column value is bigger than cursor.
@@ -503,6 +653,29 @@ public abstract class AbstractRelationalDbSource<DataType, Database extends SqlD
                                                                         DataType cursorFieldType,
                                                                         String cursor);
 
+  /**
+   * Read data from a table ordered by the cursor column. Used instead of
+   * {@link #queryTableIncremental} when intermediate states are enabled (see
+   * {@link #getStateEmissionFrequency(JsonNode)}).
+   *
+   * @param database source database
+   * @param columnNames interested column names
+   * @param schemaName table namespace
+   * @param tableName target table
+   * @param cursorField cursor field name
+   * @param cursorFieldType cursor field type
+   * @param cursor cursor value. only records where cursor column value is bigger than cursor are
+   *        returned. if null, all records are returned.
+   * @return iterator with read data, in ascending order of the cursor column
+   */
+  public abstract AutoCloseableIterator<JsonNode> queryTableOrderedByCursor(Database database,
+                                                                            List<String> columnNames,
+                                                                            String schemaName,
+                                                                            String tableName,
+                                                                            String cursorField,
+                                                                            DataType cursorFieldType,
+                                                                            String cursor);
+
   private Database createDatabaseInternal(final JsonNode sourceConfig) throws Exception {
     final Database database = createDatabase(sourceConfig);
     database.setSourceConfig(sourceConfig);
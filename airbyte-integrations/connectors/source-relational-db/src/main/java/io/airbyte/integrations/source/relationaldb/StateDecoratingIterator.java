@@ -31,10 +31,23 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Duration;
 import java.util.Iterator;
+import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Passes records through while tracking the max value of the cursor field, and emits a state
+ * message once all records have been read.
+ *
+ * <p>
+ * If the records are ordered by the cursor field, it can also emit intermediate state messages
+ * every {@code stateEmissionFrequency} records or every {@code stateEmissionInterval}, so that a
+ * failed sync can resume from there. Several records can share a cursor value, so an intermediate
+ * state only ever covers cursor values for which the iterator has moved on to a different value:
+ * those are the only ones whose records are known to all have been read.
+ */
 public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements Iterator<AirbyteMessage> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StateDecoratingIterator.class);
@@ -44,35 +57,76 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   private final AirbyteStreamNameNamespacePair pair;
   private final String cursorField;
   private final JsonSchemaPrimitive cursorType;
+  private final int stateEmissionFrequency;
+  private final Duration stateEmissionInterval;
 
   private String maxCursor;
   private boolean hasEmittedState;
 
+  // only used for intermediate states.
+  private String lastRecordCursor;
+  private String safeCursor;
+  private String lastEmittedCursor;
+  private long recordsSinceLastState;
+  private long lastStateEmittedAt;
+
   public StateDecoratingIterator(Iterator<AirbyteMessage> messageIterator,
                                  StateManager stateManager,
                                  AirbyteStreamNameNamespacePair pair,
                                  String cursorField,
                                  String initialCursor,
                                  JsonSchemaPrimitive cursorType) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, 0, null);
+  }
+
+  /**
+   * @param stateEmissionFrequency number of records after which an intermediate state is emitted. 0
+   *        disables intermediate states.
+   * @param stateEmissionInterval time after which an intermediate state is emitted. null disables
+   *        time based intermediate states.
+   */
+  public StateDecoratingIterator(Iterator<AirbyteMessage> messageIterator,
+                                 StateManager stateManager,
+                                 AirbyteStreamNameNamespacePair pair,
+                                 String cursorField,
+                                 String initialCursor,
+                                 JsonSchemaPrimitive cursorType,
+                                 int stateEmissionFrequency,
+                                 Duration stateEmissionInterval) {
     this.messageIterator = messageIterator;
     this.stateManager = stateManager;
     this.pair = pair;
     this.cursorField = cursorField;
     this.cursorType = cursorType;
     this.maxCursor = initialCursor;
+    this.stateEmissionFrequency = stateEmissionFrequency;
+    this.stateEmissionInterval = stateEmissionInterval;
+    this.lastEmittedCursor = initialCursor;
+    this.lastStateEmittedAt = System.currentTimeMillis();
     stateManager.setIsCdc(false);
   }
 
   @Override
   protected AirbyteMessage computeNext() {
     if (messageIterator.hasNext()) {
+      if (shouldEmitIntermediateState()) {
+        return emitIntermediateState();
+      }
+
       final AirbyteMessage message = messageIterator.next();
       if (message.getRecord().getData().hasNonNull(cursorField)) {
         final String cursorCandidate = message.getRecord().getData().get(cursorField).asText();
         if (IncrementalUtils.compareCursors(maxCursor, cursorCandidate, cursorType) < 0) {
           maxCursor = cursorCandidate;
         }
+        // records arrive ordered by cursor, so once the value changes, every record with the previous
+        // value has been read.
+        if (lastRecordCursor != null && !lastRecordCursor.equals(cursorCandidate)) {
+          safeCursor = lastRecordCursor;
+        }
+        lastRecordCursor = cursorCandidate;
       }
+      recordsSinceLastState++;
 
       return message;
     } else if (!hasEmittedState) {
@@ -94,4 +148,28 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     }
   }
 
+  private boolean shouldEmitIntermediateState() {
+    if (safeCursor == null || Objects.equals(safeCursor, lastEmittedCursor)) {
+      return false;
+    }
+    final boolean frequencyReached = stateEmissionFrequency > 0 && recordsSinceLastState >= stateEmissionFrequency;
+    final boolean intervalReached = stateEmissionInterval != null
+        && System.currentTimeMillis() - lastStateEmittedAt >= stateEmissionInterval.toMillis();
+    return frequencyReached || intervalReached;
+  }
+
+  private AirbyteMessage emitIntermediateState() {
+    final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, safeCursor);
+    LOGGER.info("Intermediate State Report: stream name: {}, cursor field: {}, cursor: {}, records since last state: {}",
+        pair,
+        cursorField,
+        safeCursor,
+        recordsSinceLastState);
+
+    lastEmittedCursor = safeCursor;
+    recordsSinceLastState = 0;
+    lastStateEmittedAt = System.currentTimeMillis();
+    return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+  }
+
 }
@@ -193,7 +193,7 @@ public class StateManager {
     return cdcStateManager;
   }
 
-  public AirbyteStateMessage emit() {
+  public synchronized AirbyteStateMessage emit() {
     return toState();
   }
 
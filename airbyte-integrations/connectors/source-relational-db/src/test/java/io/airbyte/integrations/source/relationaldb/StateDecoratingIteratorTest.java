@@ -28,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -134,6 +136,65 @@ class StateDecoratingIteratorTest {
     assertFalse(iterator.hasNext());
   }
 
+  @Test
+  void testIntermediateStateOnlyCoversCompletedCursorValues() {
+    final AirbyteMessage recordMessage3 = createRecordMessage("def");
+    final AirbyteMessage recordMessage4 = createRecordMessage("ghi");
+    final AirbyteStateMessage intermediateStateMessage = mock(AirbyteStateMessage.class);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "abc")).thenReturn(intermediateStateMessage);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "ghi")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        MoreIterators.of(RECORD_MESSAGE1, createRecordMessage("abc"), recordMessage3, recordMessage4),
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        1,
+        null);
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    // the next record has the same cursor value, so no state can be emitted yet.
+    assertEquals("abc", iterator.next().getRecord().getData().get(UUID_FIELD_NAME).asText());
+    assertEquals(recordMessage3, iterator.next());
+    assertEquals(intermediateStateMessage, iterator.next().getState());
+    assertEquals(recordMessage4, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testIntermediateStateFrequency() {
+    final AirbyteStateMessage intermediateStateMessage = mock(AirbyteStateMessage.class);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "abc")).thenReturn(intermediateStateMessage);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "def")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        10,
+        null);
+
+    // fewer records than the frequency, so only the final state is emitted.
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+    verify(stateManager, never()).updateAndEmit(NAME_NAMESPACE_PAIR, "abc");
+  }
+
+  private static AirbyteMessage createRecordMessage(final String cursor) {
+    return new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withData(Jsons.jsonNode(ImmutableMap.of(UUID_FIELD_NAME, cursor))));
+  }
+
   @Test
   void testEmptyStream() {
     when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, null)).thenReturn(stateMessage);
@@ -25,6 +25,7 @@
 package io.airbyte.integrations.source.relationaldb;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
@@ -34,9 +35,15 @@ import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.collect.Lists;
@@ -185,6 +192,57 @@ class StateManagerTest {
     assertEquals(expectedSecondEmission, actualSecondEmission);
   }
 
+  @Test
+  void testUpdateAndEmitConcurrently() throws Exception {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(Lists.newArrayList(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE))
+                .withCursorField(Lists.newArrayList(CURSOR_FIELD1)),
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME2).withNamespace(NAMESPACE))
+                .withCursorField(Lists.newArrayList(CURSOR_FIELD2))));
+    final StateManager stateManager = new StateManager(new DbState(), catalog);
+    final int updates = 1000;
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    final List<Future<Boolean>> results = new ArrayList<>();
+    for (final AirbyteStreamNameNamespacePair pair : List.of(NAME_NAMESPACE_PAIR1, NAME_NAMESPACE_PAIR2)) {
+      final AirbyteStreamNameNamespacePair otherPair = pair.equals(NAME_NAMESPACE_PAIR1) ? NAME_NAMESPACE_PAIR2 : NAME_NAMESPACE_PAIR1;
+      results.add(executorService.submit(() -> {
+        boolean consistent = true;
+        int lastOtherCursor = 0;
+        for (int i = 1; i <= updates; i++) {
+          // each emitted state must hold the cursor that was just set for its stream, and must never go
+          // back on the cursor of the other stream, whatever that stream is doing.
+          final DbState state = Jsons.object(stateManager.updateAndEmit(pair, String.valueOf(i)).getData(), DbState.class);
+          consistent &= getCursor(state, pair).equals(String.valueOf(i));
+          final String otherCursor = getCursor(Jsons.object(stateManager.emit().getData(), DbState.class), otherPair);
+          final int otherCursorValue = otherCursor == null ? 0 : Integer.parseInt(otherCursor);
+          consistent &= otherCursorValue >= lastOtherCursor;
+          lastOtherCursor = otherCursorValue;
+        }
+        return consistent;
+      }));
+    }
+    executorService.shutdown();
+
+    for (final Future<Boolean> result : results) {
+      assertTrue(result.get(1, TimeUnit.MINUTES));
+    }
+    final DbState finalState = Jsons.object(stateManager.emit().getData(), DbState.class);
+    assertEquals(String.valueOf(updates), getCursor(finalState, NAME_NAMESPACE_PAIR1));
+    assertEquals(String.valueOf(updates), getCursor(finalState, NAME_NAMESPACE_PAIR2));
+  }
+
+  private static String getCursor(final DbState state, final AirbyteStreamNameNamespacePair pair) {
+    return state.getStreams().stream()
+        .filter(s -> s.getStreamName().equals(pair.getName()) && s.getStreamNamespace().equals(pair.getNamespace()))
+        .findFirst()
+        .orElseThrow()
+        .getCursor();
+  }
+
   @Test
   void testToStateNullCursorField() {
     final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
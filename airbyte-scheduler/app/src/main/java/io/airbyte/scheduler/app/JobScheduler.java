@@ -25,11 +25,14 @@
 package io.airbyte.scheduler.app;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.Status;
+import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.models.JobStatus;
 import io.airbyte.scheduler.persistence.DefaultJobCreator;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_factory.DefaultSyncJobFactory;
@@ -37,14 +40,29 @@ import io.airbyte.scheduler.persistence.job_factory.SyncJobFactory;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Schedules the sync jobs of the active connections. Each connection is only evaluated again once
+ * it may be due: the time of its next evaluation is derived from its last job and schedule, and kept
+ * in an in-memory priority queue. The connections that are due are evaluated together, with a
+ * single query for their last jobs. New connections and connections whose configuration changed are
+ * evaluated right away, and connections with a job in progress are evaluated on every pass until the
+ * job is done.
+ */
 public class JobScheduler implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobScheduler.class);
@@ -53,16 +71,26 @@ public class JobScheduler implements Runnable {
   private final ConfigRepository configRepository;
   private final BiPredicate<Optional<Job>, StandardSync> scheduleJobPredicate;
   private final SyncJobFactory jobFactory;
+  private final Supplier<Instant> timeSupplier;
+
+  // latest evaluation of each active connection. an evaluation that is not in this map anymore is
+  // stale and skipped when it comes out of the queue.
+  private final Map<UUID, ConnectionEvaluation> connectionEvaluations;
+  private final PriorityQueue<ConnectionEvaluation> dueEvaluations;
 
   @VisibleForTesting
   JobScheduler(final JobPersistence jobPersistence,
                final ConfigRepository configRepository,
                final BiPredicate<Optional<Job>, StandardSync> scheduleJobPredicate,
-               final SyncJobFactory jobFactory) {
+               final SyncJobFactory jobFactory,
+               final Supplier<Instant> timeSupplier) {
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
     this.scheduleJobPredicate = scheduleJobPredicate;
     this.jobFactory = jobFactory;
+    this.timeSupplier = timeSupplier;
+    this.connectionEvaluations = new HashMap<>();
+    this.dueEvaluations = new PriorityQueue<>(Comparator.comparingLong(evaluation -> evaluation.dueAtSecond));
   }
 
   public JobScheduler(final JobPersistence jobPersistence,
@@ -71,7 +99,8 @@ public class JobScheduler implements Runnable {
         jobPersistence,
         configRepository,
         new ScheduleJobPredicate(Instant::now),
-        new DefaultSyncJobFactory(new DefaultJobCreator(jobPersistence), configRepository));
+        new DefaultSyncJobFactory(new DefaultJobCreator(jobPersistence), configRepository),
+        Instant::now);
   }
 
   @Override
@@ -88,20 +117,94 @@ public class JobScheduler implements Runnable {
   }
 
   private void scheduleSyncJobs() throws IOException {
+    final long now = timeSupplier.get().getEpochSecond();
     final AtomicInteger jobsScheduled = new AtomicInteger();
     final List<StandardSync> activeConnections = getAllActiveConnections();
 
+    // forget the connections that were deleted or deactivated.
+    connectionEvaluations.keySet().retainAll(activeConnections.stream().map(StandardSync::getConnectionId).collect(Collectors.toSet()));
     for (StandardSync connection : activeConnections) {
-      final Optional<Job> previousJobOptional = jobPersistence.getLastReplicationJob(connection.getConnectionId());
+      final ConnectionEvaluation evaluation = connectionEvaluations.get(connection.getConnectionId());
+      if (evaluation == null || !evaluation.connection.equals(connection)) {
+        queueEvaluation(connection, now);
+      }
+    }
+
+    final List<StandardSync> dueConnections = pollDueConnections(now);
+    if (dueConnections.isEmpty()) {
+      return;
+    }
+
+    int evaluatedCount = 0;
+    try {
+      final Map<UUID, Job> previousJobs = jobPersistence.getLastReplicationJobs(dueConnections.stream()
+          .map(StandardSync::getConnectionId)
+          .collect(Collectors.toSet()));
 
-      if (scheduleJobPredicate.test(previousJobOptional, connection)) {
-        jobFactory.create(connection.getConnectionId());
+      for (StandardSync connection : dueConnections) {
+        final Optional<Job> previousJobOptional = Optional.ofNullable(previousJobs.get(connection.getConnectionId()));
+        final boolean scheduleJob = scheduleJobPredicate.test(previousJobOptional, connection);
+        if (scheduleJob) {
+          jobFactory.create(connection.getConnectionId());
+          jobsScheduled.incrementAndGet();
+        }
+        queueEvaluation(connection, getNextEvaluationSecond(connection, previousJobOptional, scheduleJob, now));
+        evaluatedCount++;
+      }
+    } finally {
+      // the connections that could not be evaluated are retried on the next pass.
+      for (StandardSync connection : dueConnections.subList(evaluatedCount, dueConnections.size())) {
+        queueEvaluation(connection, now);
       }
     }
+
     int jobsScheduledCount = jobsScheduled.get();
     if (jobsScheduledCount > 0) {
-      LOGGER.info("Job-Scheduler Summary. Active connections: {}, Jobs scheduler: {}", activeConnections.size(), jobsScheduled.get());
+      LOGGER.info("Job-Scheduler Summary. Active connections: {}, Evaluated connections: {}, Jobs scheduler: {}",
+          activeConnections.size(), dueConnections.size(), jobsScheduledCount);
+    }
+  }
+
+  private List<StandardSync> pollDueConnections(final long now) {
+    final List<StandardSync> dueConnections = new ArrayList<>();
+    while (!dueEvaluations.isEmpty() && dueEvaluations.peek().dueAtSecond <= now) {
+      final ConnectionEvaluation evaluation = dueEvaluations.poll();
+      if (connectionEvaluations.get(evaluation.connection.getConnectionId()) == evaluation) {
+        dueConnections.add(evaluation.connection);
+      }
     }
+    return dueConnections;
+  }
+
+  private void queueEvaluation(final StandardSync connection, final long dueAtSecond) {
+    final ConnectionEvaluation evaluation = new ConnectionEvaluation(connection, dueAtSecond);
+    connectionEvaluations.put(connection.getConnectionId(), evaluation);
+    dueEvaluations.add(evaluation);
+  }
+
+  /**
+   * Earliest time at which the outcome of the schedule job predicate can change for the connection,
+   * as long as its configuration does not change.
+   */
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+  private static long getNextEvaluationSecond(final StandardSync connection,
+                                              final Optional<Job> previousJobOptional,
+                                              final boolean scheduledJob,
+                                              final long now) {
+    // manual connections are never scheduled programmatically.
+    if (MoreBooleans.isTruthy(connection.getManual())) {
+      return Long.MAX_VALUE;
+    }
+
+    // the job that was just created, or the one in progress, has to finish first.
+    if (scheduledJob || previousJobOptional.isEmpty() || !JobStatus.TERMINAL_STATUSES.contains(previousJobOptional.get().getStatus())) {
+      return now;
+    }
+
+    final Job previousJob = previousJobOptional.get();
+    final long prevRunStart = previousJob.getStartedAtInSecond().orElse(previousJob.getCreatedAtInSecond());
+    // a new job is scheduled once the interval has strictly elapsed.
+    return prevRunStart + ScheduleHelpers.getIntervalInSecond(connection.getSchedule()) + 1;
   }
 
   private List<StandardSync> getAllActiveConnections() {
@@ -115,4 +218,16 @@ public class JobScheduler implements Runnable {
     }
   }
 
+  private static class ConnectionEvaluation {
+
+    private final StandardSync connection;
+    private final long dueAtSecond;
+
+    private ConnectionEvaluation(final StandardSync connection, final long dueAtSecond) {
+      this.connection = connection;
+      this.dueAtSecond = dueAtSecond;
+    }
+
+  }
+
 }
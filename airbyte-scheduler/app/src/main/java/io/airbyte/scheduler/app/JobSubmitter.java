@@ -90,9 +90,9 @@ public class JobSubmitter implements Runnable {
    * whether a job should be submitted. This job id is added here, and removed in the finish block of
    * {@link #submitJob(Job)}.
    *
-   * Since {@link JobPersistence#getNextJob()} returns the next queued job, this solution cause
-   * head-of-line blocking as the JobSubmitter tries to submit the same job. However, this suggests
-   * the Worker Pool needs more workers and is inevitable when dealing with pending jobs.
+   * Since {@link JobPersistence#getNextJob()} claims the job it returns, the same job is normally
+   * not returned again. This set is kept as a guard for jobs that are put back in the queue before
+   * their previous submission has finished.
    *
    * See https://github.com/airbytehq/airbyte/issues/4378 for more info.
    */
@@ -24,13 +24,17 @@
 
 package io.airbyte.scheduler.app;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.Schedule;
+import io.airbyte.config.Schedule.TimeUnit;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardSyncOperation;
@@ -42,14 +46,20 @@ import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.models.JobStatus;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_factory.SyncJobFactory;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +68,7 @@ class JobSchedulerTest {
   private static final StandardSync STANDARD_SYNC;
   private static final List<StandardSyncOperation> STANDARD_SYNC_OPERATIONS;
   private static final long JOB_ID = 12L;
+  private static final Instant NOW = Instant.now();
   private Job previousJob;
 
   private static final String STREAM_NAME = "users";
@@ -95,6 +106,7 @@ class JobSchedulerTest {
   private JobPersistence jobPersistence;
   private ScheduleJobPredicate scheduleJobPredicate;
   private SyncJobFactory jobFactory;
+  private Supplier<Instant> timeSupplier;
   private JobScheduler scheduler;
 
   @BeforeEach
@@ -104,15 +116,17 @@ class JobSchedulerTest {
 
     scheduleJobPredicate = mock(ScheduleJobPredicate.class);
     jobFactory = mock(SyncJobFactory.class);
-    scheduler = new JobScheduler(jobPersistence, configRepository, scheduleJobPredicate, jobFactory);
+    timeSupplier = mock(Supplier.class);
+    when(timeSupplier.get()).thenReturn(NOW);
+    scheduler = new JobScheduler(jobPersistence, configRepository, scheduleJobPredicate, jobFactory, timeSupplier);
 
     previousJob = mock(Job.class);
   }
 
   @Test
   public void testScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), previousJob));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -121,14 +135,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testScheduleJobNoPreviousJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.empty());
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of());
     when(scheduleJobPredicate.test(Optional.empty(), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -137,14 +151,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.empty(), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testDoNotScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), previousJob));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(false);
     setConfigMocks();
 
@@ -152,7 +166,7 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory, never()).create(STANDARD_SYNC.getConnectionId());
   }
 
@@ -166,10 +180,74 @@ class JobSchedulerTest {
 
     verify(configRepository).listStandardSyncs();
     verify(scheduleJobPredicate, never()).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence, never()).getLastReplicationJob(standardSync.getConnectionId());
+    verify(jobPersistence, never()).getLastReplicationJobs(any());
     verify(jobFactory, never()).create(standardSync.getConnectionId());
   }
 
+  @Test
+  public void testDoNotEvaluateConnectionBeforeItIsDue() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final StandardSync standardSync = Jsons.clone(STANDARD_SYNC)
+        .withManual(false)
+        .withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.HOURS));
+    when(configRepository.listStandardSyncs()).thenReturn(Collections.singletonList(standardSync));
+    when(previousJob.getStatus()).thenReturn(JobStatus.SUCCEEDED);
+    when(previousJob.getStartedAtInSecond()).thenReturn(Optional.of(NOW.getEpochSecond()));
+    when(jobPersistence.getLastReplicationJobs(Set.of(standardSync.getConnectionId())))
+        .thenReturn(Map.of(standardSync.getConnectionId(), previousJob));
+    when(scheduleJobPredicate.test(Optional.of(previousJob), standardSync)).thenReturn(false);
+
+    scheduler.run();
+    // not due yet.
+    when(timeSupplier.get()).thenReturn(NOW.plus(Duration.ofMinutes(30)));
+    scheduler.run();
+    verify(jobPersistence, times(1)).getLastReplicationJobs(any());
+
+    // due once the interval has elapsed.
+    when(timeSupplier.get()).thenReturn(NOW.plus(Duration.ofMinutes(61)));
+    scheduler.run();
+    verify(jobPersistence, times(2)).getLastReplicationJobs(any());
+    verify(jobFactory, never()).create(standardSync.getConnectionId());
+  }
+
+  @Test
+  public void testEvaluateConnectionWithJobInProgressOnEveryPass() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(previousJob.getStatus()).thenReturn(JobStatus.RUNNING);
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), previousJob));
+    when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(false);
+    setConfigMocks();
+
+    scheduler.run();
+    scheduler.run();
+
+    verify(jobPersistence, times(2)).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
+    verify(jobFactory, never()).create(STANDARD_SYNC.getConnectionId());
+  }
+
+  @Test
+  public void testEvaluateConnectionRightAwayWhenItChanges() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final StandardSync manualSync = Jsons.clone(STANDARD_SYNC).withManual(true);
+    final StandardSync scheduledSync = Jsons.clone(STANDARD_SYNC)
+        .withManual(false)
+        .withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.HOURS));
+    when(configRepository.listStandardSyncs())
+        .thenReturn(Collections.singletonList(manualSync))
+        .thenReturn(Collections.singletonList(manualSync))
+        .thenReturn(Collections.singletonList(scheduledSync));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()))).thenReturn(Map.of());
+    when(scheduleJobPredicate.test(Optional.empty(), manualSync)).thenReturn(false);
+    when(scheduleJobPredicate.test(Optional.empty(), scheduledSync)).thenReturn(true);
+
+    scheduler.run();
+    // manual connections are not evaluated again while they do not change.
+    scheduler.run();
+    verify(jobPersistence, times(1)).getLastReplicationJobs(any());
+
+    scheduler.run();
+    verify(jobPersistence, times(2)).getLastReplicationJobs(any());
+    verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
+  }
+
   // sets all mocks that are related to fetching configs. these are the same for all tests in this
   // test suite.
   private void setConfigMocks() throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -57,6 +57,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -121,6 +122,20 @@ public class DefaultJobPersistence implements JobPersistence {
           + "attempts.ended_at AS attempt_ended_at\n"
           + "FROM jobs LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
 
+  // the status predicates match the partial indexes of the jobs table (see
+  // V0_29_15_001__Add_job_queue_indexes), so status is compared without casting it.
+  @VisibleForTesting
+  static final String NEXT_JOB_ID_QUERY =
+      "SELECT jobs.id FROM jobs WHERE "
+          + "jobs.status = 'pending' AND "
+          + "NOT EXISTS ( SELECT 1 FROM jobs AS active_jobs "
+          + "WHERE active_jobs.scope = jobs.scope AND active_jobs.status IN ('running', 'incomplete') ) "
+          + "ORDER BY jobs.created_at ASC LIMIT 1 "
+          + "FOR UPDATE SKIP LOCKED";
+
+  private static final String CLAIM_NEXT_JOB_QUERY =
+      "UPDATE jobs SET status = CAST(? AS JOB_STATUS), updated_at = ? WHERE id = ( " + NEXT_JOB_ID_QUERY + " ) RETURNING id";
+
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
@@ -336,6 +351,37 @@ public class DefaultJobPersistence implements JobPersistence {
         configId, pagesize, offset)));
   }
 
+  @Override
+  public List<Job> listLatestJobs(Set<ConfigType> configTypes, Set<String> configIds) throws IOException {
+    return listLatestJobsOfScopes(configTypes, configIds, null);
+  }
+
+  /**
+   * The latest job of each scope is picked in a sub query, so that the attempts are only joined for
+   * the jobs that are returned.
+   *
+   * @param excludedStatus status of the jobs that are skipped, or null to consider all jobs.
+   */
+  private List<Job> listLatestJobsOfScopes(Set<ConfigType> configTypes, Set<String> scopes, JobStatus excludedStatus) throws IOException {
+    if (scopes.isEmpty()) {
+      return List.of();
+    }
+
+    final List<Object> bindings = new ArrayList<>(scopes);
+    if (excludedStatus != null) {
+      bindings.add(Sqls.toSqlName(excludedStatus));
+    }
+    return database.query(ctx -> getJobsFromResult(ctx.fetch(
+        BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+            "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            "scope IN (" + String.join(",", Collections.nCopies(scopes.size(), "?")) + ") " +
+            (excludedStatus != null ? "AND CAST(status AS VARCHAR) <> ? " : "") +
+            "ORDER BY scope, created_at DESC, id DESC) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+        bindings.toArray())));
+  }
+
   @Override
   public List<Job> listJobsWithStatus(JobStatus status) throws IOException {
     return listJobsWithStatus(Sets.newHashSet(ConfigType.values()), status);
@@ -371,6 +417,14 @@ public class DefaultJobPersistence implements JobPersistence {
         .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
   }
 
+  @Override
+  public Map<UUID, Job> getLastReplicationJobs(Set<UUID> connectionIds) throws IOException {
+    final Set<String> scopes = connectionIds.stream().map(UUID::toString).collect(Collectors.toSet());
+    return listLatestJobsOfScopes(Job.REPLICATION_TYPES, scopes, JobStatus.CANCELLED)
+        .stream()
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), job -> job));
+  }
+
   @Override
   public Optional<State> getCurrentState(UUID connectionId) throws IOException {
     return database.query(ctx -> ctx
@@ -395,14 +449,14 @@ public class DefaultJobPersistence implements JobPersistence {
     // 1. get oldest, pending job
     // 2. job is excluded if another job of the same scope is already running
     // 3. job is excluded if another job of the same scope is already incomplete
-    return database.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.status AS VARCHAR) = 'pending' AND " +
-            "jobs.scope NOT IN ( SELECT scope FROM jobs WHERE status = 'running' OR status = 'incomplete' ) " +
-            "ORDER BY jobs.created_at ASC LIMIT 1")
+    // 4. job is excluded if another caller is claiming it at the same time
+    // the job is moved to running in the same statement, so that it is only ever returned once.
+    final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
+    return database.transaction(ctx -> ctx
+        .fetch(CLAIM_NEXT_JOB_QUERY, Sqls.toSqlName(JobStatus.RUNNING), now)
         .stream()
         .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
+        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class))));
   }
 
   private static List<Job> getJobsFromResult(Result<Record> result) {
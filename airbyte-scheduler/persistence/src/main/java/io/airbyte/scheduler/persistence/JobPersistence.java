@@ -137,6 +137,14 @@ public interface JobPersistence {
 
   List<Job> listJobs(JobConfig.ConfigType configType, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * @param configTypes - types of config, e.g. sync
+   * @param configIds - ids of those configs
+   * @return the latest job of each config that has one, in a single query
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listLatestJobs(Set<JobConfig.ConfigType> configTypes, Set<String> configIds) throws IOException;
+
   List<Job> listJobsWithStatus(JobStatus status) throws IOException;
 
   List<Job> listJobsWithStatus(Set<JobConfig.ConfigType> configTypes, JobStatus status) throws IOException;
@@ -145,6 +153,16 @@ public interface JobPersistence {
 
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
+  /**
+   * Same as {@link #getLastReplicationJob(UUID)} for many connections at once, in a single query.
+   *
+   * @param connectionIds - ids of the connections
+   * @return last replication job of each connection that has one. connections without a job are
+   *         left out.
+   * @throws IOException - what you do when you IO
+   */
+  Map<UUID, Job> getLastReplicationJobs(Set<UUID> connectionIds) throws IOException;
+
   /**
    * if a job does not succeed, we assume that it synced nothing. that is the most conservative
    * assumption we can make. as long as all destinations write the final data output in a
@@ -158,6 +176,13 @@ public interface JobPersistence {
    */
   Optional<State> getCurrentState(UUID connectionId) throws IOException;
 
+  /**
+   * Claims the oldest pending job whose scope has no running or incomplete job, by moving it to
+   * running. A job is only ever returned to one caller, even when several call this at the same time.
+   *
+   * @return the claimed job, if any job was pending
+   * @throws IOException exception due to interaction with persistence
+   */
   Optional<Job> getNextJob() throws IOException;
 
   /// ARCHIVE
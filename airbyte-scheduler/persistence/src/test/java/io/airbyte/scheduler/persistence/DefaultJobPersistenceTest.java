@@ -49,6 +49,7 @@ import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.State;
 import io.airbyte.db.Database;
 import io.airbyte.db.instance.jobs.JobsDatabaseInstance;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
 import io.airbyte.db.instance.jobs.JobsDatabaseSchema;
 import io.airbyte.scheduler.models.Attempt;
 import io.airbyte.scheduler.models.AttemptStatus;
@@ -58,6 +59,7 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -65,12 +67,16 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -596,6 +602,37 @@ class DefaultJobPersistenceTest {
       assertEquals(Optional.of(expected), actual);
     }
 
+    @Test
+    @DisplayName("Should return the last enqueued job of each connection at once")
+    public void testGetLastSyncJobsForConnectionIds() throws IOException {
+      final UUID otherConnectionId = UUID.randomUUID();
+      final UUID connectionIdWithoutJob = UUID.randomUUID();
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long otherJobId = jobPersistence.enqueueJob(otherConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      final int otherAttemptNumber = jobPersistence.createAttempt(otherJobId, LOG_PATH);
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      // cancelled jobs are ignored.
+      final long cancelledJobId = jobPersistence.enqueueJob(otherConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(cancelledJobId);
+
+      final Map<UUID, Job> actual = jobPersistence.getLastReplicationJobs(Set.of(CONNECTION_ID, otherConnectionId, connectionIdWithoutJob));
+
+      final Job expected = createJob(jobId2, SYNC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), afterNow.getEpochSecond());
+      final Job expectedOther = createJob(
+          otherJobId,
+          SYNC_JOB_CONFIG,
+          JobStatus.RUNNING,
+          Lists.newArrayList(createAttempt(otherAttemptNumber, otherJobId, AttemptStatus.RUNNING, LOG_PATH)),
+          NOW.getEpochSecond(),
+          otherConnectionId.toString());
+      assertEquals(Map.of(CONNECTION_ID, expected, otherConnectionId, expectedOther), actual);
+      assertEquals(Map.of(), jobPersistence.getLastReplicationJobs(Set.of()));
+    }
+
   }
 
   @Nested
@@ -709,9 +746,11 @@ class DefaultJobPersistenceTest {
       final long jobId = createJobAt(NOW);
       createJobAt(NOW.plusSeconds(1000));
 
+      // the job is claimed at the time it was created, so that its update time does not change.
+      when(timeSupplier.get()).thenReturn(NOW);
       final Optional<Job> actual = jobPersistence.getNextJob();
 
-      Job expected = createJob(jobId, SPEC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), NOW.getEpochSecond());
+      Job expected = createJob(jobId, SPEC_JOB_CONFIG, JobStatus.RUNNING, Collections.emptyList(), NOW.getEpochSecond());
       assertEquals(Optional.of(expected), actual);
     }
 
@@ -739,7 +778,7 @@ class DefaultJobPersistenceTest {
       final Job expected = createJob(
           jobId,
           SPEC_JOB_CONFIG,
-          JobStatus.PENDING,
+          JobStatus.RUNNING,
           Lists.newArrayList(
               createAttempt(0L, jobId, AttemptStatus.FAILED, LOG_PATH),
               createAttempt(1L, jobId, AttemptStatus.FAILED, LOG_PATH)),
@@ -761,7 +800,7 @@ class DefaultJobPersistenceTest {
 
       final Optional<Job> actual = jobPersistence.getNextJob();
 
-      Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), NOW.getEpochSecond());
+      Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.RUNNING, Collections.emptyList(), NOW.getEpochSecond());
       assertEquals(Optional.of(expected), actual);
     }
 
@@ -777,7 +816,7 @@ class DefaultJobPersistenceTest {
 
       final Optional<Job> actual = jobPersistence.getNextJob();
 
-      Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), NOW.getEpochSecond());
+      Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.RUNNING, Collections.emptyList(), NOW.getEpochSecond());
       assertEquals(Optional.of(expected), actual);
     }
 
@@ -794,7 +833,7 @@ class DefaultJobPersistenceTest {
 
       final Optional<Job> actual = jobPersistence.getNextJob();
 
-      Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), NOW.getEpochSecond());
+      Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.RUNNING, Collections.emptyList(), NOW.getEpochSecond());
       assertEquals(Optional.of(expected), actual);
     }
 
@@ -831,6 +870,84 @@ class DefaultJobPersistenceTest {
       assertTrue(actual.isEmpty());
     }
 
+    @Test
+    @Test
+    @DisplayName("Should claim the returned job so that it is not returned again")
+    public void testGetNextJobClaimsJob() throws IOException {
+      final long jobId = createJobAt(NOW.minusSeconds(1000));
+      when(timeSupplier.get()).thenReturn(NOW);
+      final long otherScopeJobId = jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      assertEquals(Optional.of(jobId), jobPersistence.getNextJob().map(Job::getId));
+      assertEquals(JobStatus.RUNNING, jobPersistence.getJob(jobId).getStatus());
+      assertEquals(Optional.of(otherScopeJobId), jobPersistence.getNextJob().map(Job::getId));
+      assertTrue(jobPersistence.getNextJob().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should skip the pending job that another caller has locked")
+    public void testGetNextJobSkipsLockedJob() throws IOException, SQLException {
+      final long jobId = createJobAt(NOW.minusSeconds(1000));
+      final long jobId2 = createJobAt(NOW);
+
+      // the job is locked by another connection while the next job is claimed.
+      final Optional<Job> actual;
+      try (final Connection connection = database.getDataSource().getConnection()) {
+        connection.setAutoCommit(false);
+        connection.createStatement().execute("SELECT id FROM jobs WHERE id = " + jobId + " FOR UPDATE");
+        actual = jobPersistence.getNextJob();
+        connection.rollback();
+      }
+
+      final Job expected = createJob(jobId2, SPEC_JOB_CONFIG, JobStatus.RUNNING, Collections.emptyList(), NOW.getEpochSecond());
+      assertEquals(Optional.of(expected), actual);
+      assertEquals(JobStatus.PENDING, jobPersistence.getJob(jobId).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should return each pending job to only one of concurrent callers")
+    public void testGetNextJobConcurrently() throws Exception {
+      final Set<Long> jobIds = new HashSet<>();
+      for (int i = 0; i < 10; i++) {
+        jobIds.add(jobPersistence.enqueueJob(SCOPE + i, SPEC_JOB_CONFIG).orElseThrow());
+      }
+
+      final ExecutorService executor = Executors.newFixedThreadPool(jobIds.size());
+      try {
+        final List<Future<Optional<Job>>> futures = new ArrayList<>();
+        for (int i = 0; i < jobIds.size(); i++) {
+          futures.add(executor.submit(() -> jobPersistence.getNextJob()));
+        }
+
+        final List<Long> claimedJobIds = new ArrayList<>();
+        for (final Future<Optional<Job>> future : futures) {
+          future.get().ifPresent(job -> claimedJobIds.add(job.getId()));
+        }
+
+        // a caller that only saw locked jobs gets nothing, but no job is claimed twice.
+        assertEquals(claimedJobIds.size(), new HashSet<>(claimedJobIds).size());
+        assertTrue(jobIds.containsAll(claimedJobIds));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @DisplayName("Should look up the next job with the job queue indexes")
+    public void testGetNextJobUsesIndexes() throws SQLException {
+      new JobsDatabaseMigrator(database, DefaultJobPersistenceTest.class.getSimpleName()).migrate();
+
+      // the table is too small for the planner to prefer the indexes on its own.
+      final String plan = database.transaction(ctx -> {
+        ctx.execute("SET LOCAL enable_seqscan = off");
+        return ctx.fetch("EXPLAIN " + DefaultJobPersistence.NEXT_JOB_ID_QUERY).stream()
+            .map(r -> r.get(0, String.class))
+            .collect(Collectors.joining("\n"));
+      });
+
+      assertTrue(plan.contains("jobs_pending_created_at_idx"), plan);
+      assertTrue(plan.contains("jobs_active_scope_idx"), plan);
+    }
+
   }
 
   @Nested
@@ -939,6 +1056,31 @@ class DefaultJobPersistenceTest {
       assertEquals(jobId2, actualList.get(0).getId());
     }
 
+    @Test
+    @DisplayName("Should list the latest job of each config at once")
+    public void testListLatestJobs() throws IOException {
+      final String otherScope = UUID.randomUUID().toString();
+      jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final long otherJobId = jobPersistence.enqueueJob(otherScope, SPEC_JOB_CONFIG).orElseThrow();
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      // the latest job is returned even if it was cancelled.
+      jobPersistence.cancelJob(jobId);
+      // jobs of other config types are ignored.
+      jobPersistence.enqueueJob(otherScope, CHECK_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actualList = jobPersistence.listLatestJobs(
+          Set.of(SPEC_JOB_CONFIG.getConfigType()),
+          Set.of(SCOPE, otherScope, UUID.randomUUID().toString()));
+
+      final Job expected = createJob(jobId, SPEC_JOB_CONFIG, JobStatus.CANCELLED, Collections.emptyList(), afterNow.getEpochSecond());
+      final Job expectedOther = createJob(otherJobId, SPEC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), NOW.getEpochSecond(), otherScope);
+      assertEquals(List.of(expected, expectedOther), actualList);
+      assertEquals(List.of(), jobPersistence.listLatestJobs(Set.of(SPEC_JOB_CONFIG.getConfigType()), Set.of()));
+    }
+
   }
 
   @Nested
@@ -33,6 +33,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigSeedProvider;
@@ -180,7 +181,8 @@ public class ServerApp implements ServerRunnable {
             .getAndInitialize();
     final ConfigPersistence configPersistence = new DatabaseConfigPersistence(configDatabase)
         .loadData(ConfigSeedProvider.get(configs))
-        .withValidation();
+        .withValidationAndCaching()
+        .withCacheStatsLogging(CachingConfigPersistence.DEFAULT_STATS_LOG_INTERVAL);
     final ConfigRepository configRepository = new ConfigRepository(configPersistence);
 
     LOGGER.info("Creating Scheduler persistence...");
@@ -25,8 +25,11 @@
 package io.airbyte.server.converters;
 
 import io.airbyte.api.model.AttemptInfoRead;
+import io.airbyte.api.model.AttemptMetrics;
 import io.airbyte.api.model.AttemptRead;
 import io.airbyte.api.model.AttemptStatus;
+import io.airbyte.api.model.AttemptStreamStats;
+import io.airbyte.api.model.AttemptThroughputSample;
 import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobRead;
@@ -39,6 +42,7 @@ import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.SyncMetrics;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.scheduler.client.SynchronousJobMetadata;
 import io.airbyte.scheduler.client.SynchronousResponse;
@@ -93,11 +97,39 @@ public class JobConverter {
             .map(StandardSyncOutput::getStandardSyncSummary)
             .map(StandardSyncSummary::getRecordsSynced)
             .orElse(null))
+        .metrics(attempt.getOutput()
+            .map(JobOutput::getSync)
+            .map(StandardSyncOutput::getStandardSyncSummary)
+            .map(StandardSyncSummary::getMetrics)
+            .map(JobConverter::getAttemptMetrics)
+            .orElse(null))
         .createdAt(attempt.getCreatedAtInSecond())
         .updatedAt(attempt.getUpdatedAtInSecond())
         .endedAt(attempt.getEndedAtInSecond().orElse(null));
   }
 
+  public static AttemptMetrics getAttemptMetrics(SyncMetrics metrics) {
+    return new AttemptMetrics()
+        .streamStats(metrics.getStreamStats().stream()
+            .map(stats -> new AttemptStreamStats()
+                .streamName(stats.getStreamName())
+                .streamNamespace(stats.getStreamNamespace())
+                .recordsSynced(stats.getRecordsSynced())
+                .bytesSynced(stats.getBytesSynced()))
+            .collect(Collectors.toList()))
+        .sourceReadWaitMillis(metrics.getSourceReadWaitMillis())
+        .mappingMillis(metrics.getMappingMillis())
+        .destinationWriteMillis(metrics.getDestinationWriteMillis())
+        .destinationStateAckLatencyAvgMillis(metrics.getDestinationStateAckLatencyAvgMillis())
+        .destinationStateAckLatencyMaxMillis(metrics.getDestinationStateAckLatencyMaxMillis())
+        .throughputSamples(metrics.getThroughputSamples().stream()
+            .map(sample -> new AttemptThroughputSample()
+                .elapsedMillis(sample.getElapsedMillis())
+                .recordsSynced(sample.getRecordsSynced())
+                .bytesSynced(sample.getBytesSynced()))
+            .collect(Collectors.toList()));
+  }
+
   public static LogRead getLogRead(Path logPath) {
     try {
       var logs = LogClientSingleton.getJobLogFile(new EnvConfigs(), logPath);
@@ -240,16 +240,8 @@ public class ConnectionsHandler {
   public ConnectionReadList listConnectionsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     final List<ConnectionRead> connectionReads = Lists.newArrayList();
-
-    for (StandardSync standardSync : configRepository.listStandardSyncs()) {
-      if (standardSync.getStatus() == StandardSync.Status.DEPRECATED) {
-        continue;
-      }
-      if (!isStandardSyncInWorkspace(workspaceIdRequestBody.getWorkspaceId(), standardSync)) {
-        continue;
-      }
-
-      connectionReads.add(buildConnectionRead(standardSync.getConnectionId()));
+    for (StandardSync standardSync : configRepository.listStandardSyncsForWorkspace(workspaceIdRequestBody.getWorkspaceId(), false)) {
+      connectionReads.add(buildConnectionRead(standardSync));
     }
 
     return new ConnectionReadList().connections(connectionReads);
@@ -280,12 +272,6 @@ public class ConnectionsHandler {
     updateConnection(connectionUpdate);
   }
 
-  private boolean isStandardSyncInWorkspace(final UUID workspaceId,
-                                            final StandardSync standardSync)
-      throws ConfigNotFoundException, IOException, JsonValidationException {
-    return configRepository.getSourceConnection(standardSync.getSourceId()).getWorkspaceId().equals(workspaceId);
-  }
-
   private ConnectionRead buildConnectionRead(UUID connectionId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final StandardSync standardSync = configRepository.getStandardSync(connectionId);
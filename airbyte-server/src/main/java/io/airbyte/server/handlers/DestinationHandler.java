@@ -48,8 +48,10 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -185,17 +187,20 @@ public class DestinationHandler {
   public DestinationReadList listDestinationsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<DestinationRead> reads = Lists.newArrayList();
+    final Map<UUID, StandardDestinationDefinition> destinationDefinitions = configRepository.listStandardDestinationDefinitions()
+        .stream()
+        .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, destinationDefinition -> destinationDefinition));
 
-    for (DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
-
+    for (DestinationConnection dci : configRepository.listDestinationConnectionsForWorkspace(workspaceIdRequestBody.getWorkspaceId())) {
       if (dci.getTombstone()) {
         continue;
       }
 
-      reads.add(buildDestinationRead(dci.getDestinationId()));
+      final StandardDestinationDefinition destinationDefinition = destinationDefinitions.get(dci.getDestinationDefinitionId());
+      if (destinationDefinition == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_DESTINATION_DEFINITION, dci.getDestinationDefinitionId().toString());
+      }
+      reads.add(buildDestinationRead(dci, destinationDefinition));
     }
 
     return new DestinationReadList().destinations(reads);
@@ -244,11 +249,21 @@ public class DestinationHandler {
 
     final StandardDestinationDefinition standardDestinationDefinition =
         configRepository.getStandardDestinationDefinition(dci.getDestinationDefinitionId());
-    return buildDestinationRead(dci, standardDestinationDefinition);
+    return toDestinationRead(dci, standardDestinationDefinition);
   }
 
   private DestinationRead buildDestinationRead(final DestinationConnection destinationConnection,
                                                final StandardDestinationDefinition standardDestinationDefinition) {
+    // remove secrets from config before returning the read
+    final String imageName =
+        DockerUtils.getTaggedImageName(standardDestinationDefinition.getDockerRepository(), standardDestinationDefinition.getDockerImageTag());
+    final ConnectorSpecification spec = specFetcher.execute(imageName);
+    destinationConnection.setConfiguration(secretProcessor.maskSecrets(destinationConnection.getConfiguration(), spec.getConnectionSpecification()));
+    return toDestinationRead(destinationConnection, standardDestinationDefinition);
+  }
+
+  private DestinationRead toDestinationRead(final DestinationConnection destinationConnection,
+                                            final StandardDestinationDefinition standardDestinationDefinition) {
     return new DestinationRead()
         .destinationDefinitionId(standardDestinationDefinition.getDestinationDefinitionId())
         .destinationId(destinationConnection.getDestinationId())
@@ -28,6 +28,7 @@ import com.google.common.base.Preconditions;
 import io.airbyte.api.model.JobIdRequestBody;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobListRequestBody;
+import io.airbyte.api.model.JobRead;
 import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobWithAttemptsRead;
 import io.airbyte.commons.enums.Enums;
@@ -38,7 +39,9 @@ import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.server.converters.JobConverter;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class JobHistoryHandler {
@@ -72,6 +75,18 @@ public class JobHistoryHandler {
     return new JobReadList().jobs(jobReads);
   }
 
+  /**
+   * @param connectionIds - ids of the connections
+   * @return the latest sync job of each connection that has one, keyed by connection id
+   */
+  public Map<UUID, JobRead> getLatestSyncJobs(Set<UUID> connectionIds) throws IOException {
+    final Set<String> configIds = connectionIds.stream().map(UUID::toString).collect(Collectors.toSet());
+    return jobPersistence.listLatestJobs(Set.of(ConfigType.SYNC), configIds)
+        .stream()
+        .map(job -> JobConverter.getJobWithAttemptsRead(job).getJob())
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getConfigId()), job -> job));
+  }
+
   public JobInfoRead getJobInfo(JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
 
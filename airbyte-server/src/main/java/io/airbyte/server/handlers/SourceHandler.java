@@ -47,8 +47,10 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class SourceHandler {
 
@@ -148,16 +150,20 @@ public class SourceHandler {
   public SourceReadList listSourcesForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<SourceRead> reads = Lists.newArrayList();
+    final Map<UUID, StandardSourceDefinition> sourceDefinitions = configRepository.listStandardSources()
+        .stream()
+        .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, sourceDefinition -> sourceDefinition));
 
-    for (SourceConnection sci : configRepository.listSourceConnection()) {
-      if (!sci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
+    for (SourceConnection sci : configRepository.listSourceConnectionsForWorkspace(workspaceIdRequestBody.getWorkspaceId())) {
       if (sci.getTombstone()) {
         continue;
       }
 
-      reads.add(buildSourceRead(sci.getSourceId()));
+      final StandardSourceDefinition sourceDefinition = sourceDefinitions.get(sci.getSourceDefinitionId());
+      if (sourceDefinition == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, sci.getSourceDefinitionId().toString());
+      }
+      reads.add(buildSourceRead(sci, sourceDefinition));
     }
 
     return new SourceReadList().sources(reads);
@@ -218,6 +224,16 @@ public class SourceHandler {
     return toSourceRead(sourceConnection, standardSourceDefinition);
   }
 
+  private SourceRead buildSourceRead(SourceConnection sourceConnection, StandardSourceDefinition standardSourceDefinition) {
+    final String imageName = DockerUtils
+        .getTaggedImageName(standardSourceDefinition.getDockerRepository(), standardSourceDefinition.getDockerImageTag());
+    final ConnectorSpecification spec = specFetcher.execute(imageName);
+    final JsonNode sanitizedConfig = secretsProcessor
+        .maskSecrets(sourceConnection.getConfiguration(), spec.getConnectionSpecification());
+    sourceConnection.setConfiguration(sanitizedConfig);
+    return toSourceRead(sourceConnection, standardSourceDefinition);
+  }
+
   private void validateSource(ConnectorSpecification spec, JsonNode implementationJson)
       throws JsonValidationException {
     validator.ensure(spec.getConnectionSpecification(), implementationJson);
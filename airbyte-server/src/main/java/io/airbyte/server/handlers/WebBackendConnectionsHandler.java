@@ -46,6 +46,7 @@ import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobStatus;
 import io.airbyte.api.model.JobWithAttemptsRead;
 import io.airbyte.api.model.OperationCreate;
+import io.airbyte.api.model.OperationRead;
 import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
@@ -70,6 +71,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public class WebBackendConnectionsHandler {
 
@@ -99,9 +101,45 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
+    // everything the connections refer to is loaded for the whole workspace up front, so that the
+    // number of queries does not grow with the number of connections.
+    final List<ConnectionRead> connections = connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections();
+    final Map<UUID, SourceRead> sources = sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody).getSources()
+        .stream()
+        .collect(toMap(SourceRead::getSourceId, source -> source));
+    final Map<UUID, DestinationRead> destinations = destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody).getDestinations()
+        .stream()
+        .collect(toMap(DestinationRead::getDestinationId, destination -> destination));
+    final Map<UUID, OperationRead> operations = operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody).getOperations()
+        .stream()
+        .collect(toMap(OperationRead::getOperationId, operation -> operation));
+    final Map<UUID, JobRead> latestSyncJobs = jobHistoryHandler.getLatestSyncJobs(connections.stream()
+        .map(ConnectionRead::getConnectionId)
+        .collect(Collectors.toSet()));
+
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    for (ConnectionRead connection : connections) {
+      // sources and destinations missing from the workspace listing are looked up one by one, which
+      // fails the same way as it would for a single connection.
+      final SourceRead source = sources.containsKey(connection.getSourceId())
+          ? sources.get(connection.getSourceId())
+          : getSourceRead(connection);
+      final DestinationRead destination = destinations.containsKey(connection.getDestinationId())
+          ? destinations.get(connection.getDestinationId())
+          : getDestinationRead(connection);
+      final OperationReadList connectionOperations = new OperationReadList().operations(connection.getOperationIds()
+          .stream()
+          .filter(operations::containsKey)
+          .map(operations::get)
+          .collect(Collectors.toList()));
+      final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(connection, source, destination, connectionOperations);
+
+      final JobRead latestSyncJob = latestSyncJobs.get(connection.getConnectionId());
+      webBackendConnectionRead.setIsSyncing(latestSyncJob != null && !TERMINAL_STATUSES.contains(latestSyncJob.getStatus()));
+      if (latestSyncJob != null) {
+        setLatestSyncJobProperties(webBackendConnectionRead, latestSyncJob);
+      }
+      reads.add(webBackendConnectionRead);
     }
     return new WebBackendConnectionReadList().connections(reads);
   }
@@ -116,7 +154,8 @@ public class WebBackendConnectionsHandler {
     final JobReadList syncJobReadList = getSyncJobs(connectionRead);
     Predicate<JobRead> hasRunningJob = (JobRead job) -> !TERMINAL_STATUSES.contains(job.getStatus());
     WebBackendConnectionRead.setIsSyncing(syncJobReadList.getJobs().stream().map(JobWithAttemptsRead::getJob).anyMatch(hasRunningJob));
-    setLatestSyncJobProperties(WebBackendConnectionRead, syncJobReadList);
+    syncJobReadList.getJobs().stream().map(JobWithAttemptsRead::getJob).findFirst()
+        .ifPresent(job -> setLatestSyncJobProperties(WebBackendConnectionRead, job));
     return WebBackendConnectionRead;
   }
 
@@ -164,12 +203,9 @@ public class WebBackendConnectionsHandler {
     return jobHistoryHandler.listJobsFor(jobListRequestBody);
   }
 
-  private void setLatestSyncJobProperties(WebBackendConnectionRead WebBackendConnectionRead, JobReadList syncJobReadList) {
-    syncJobReadList.getJobs().stream().map(JobWithAttemptsRead::getJob).findFirst()
-        .ifPresent(job -> {
-          WebBackendConnectionRead.setLatestSyncJobCreatedAt(job.getCreatedAt());
-          WebBackendConnectionRead.setLatestSyncJobStatus(job.getStatus());
-        });
+  private void setLatestSyncJobProperties(WebBackendConnectionRead WebBackendConnectionRead, JobRead job) {
+    WebBackendConnectionRead.setLatestSyncJobCreatedAt(job.getCreatedAt());
+    WebBackendConnectionRead.setLatestSyncJobStatus(job.getStatus());
   }
 
   public WebBackendConnectionRead webBackendGetConnection(WebBackendConnectionRequestBody webBackendConnectionRequestBody)
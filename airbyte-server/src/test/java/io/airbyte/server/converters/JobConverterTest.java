@@ -31,7 +31,10 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
 import io.airbyte.api.model.AttemptInfoRead;
+import io.airbyte.api.model.AttemptMetrics;
 import io.airbyte.api.model.AttemptRead;
+import io.airbyte.api.model.AttemptStreamStats;
+import io.airbyte.api.model.AttemptThroughputSample;
 import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobRead;
@@ -40,12 +43,16 @@ import io.airbyte.api.model.LogRead;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.JobCheckConnectionConfig;
 import io.airbyte.config.JobConfig;
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMetrics;
+import io.airbyte.config.ThroughputSample;
 import io.airbyte.scheduler.models.Attempt;
 import io.airbyte.scheduler.models.AttemptStatus;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.models.JobStatus;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -125,6 +132,33 @@ class JobConverterTest {
     assertEquals(JOB_WITH_ATTEMPTS_READ, jobReadActual);
   }
 
+  @Test
+  public void testGetAttemptMetrics() {
+    final SyncMetrics metrics = new SyncMetrics()
+        .withStreamStats(List.of(new StreamSyncStats()
+            .withStreamName("users")
+            .withStreamNamespace("public")
+            .withRecordsSynced(10L)
+            .withBytesSynced(100L)))
+        .withSourceReadWaitMillis(1L)
+        .withMappingMillis(2L)
+        .withDestinationWriteMillis(3L)
+        .withDestinationStateAckLatencyAvgMillis(4L)
+        .withDestinationStateAckLatencyMaxMillis(5L)
+        .withThroughputSamples(List.of(new ThroughputSample().withElapsedMillis(60000L).withRecordsSynced(10L).withBytesSynced(100L)));
+
+    final AttemptMetrics expected = new AttemptMetrics()
+        .streamStats(List.of(new AttemptStreamStats().streamName("users").streamNamespace("public").recordsSynced(10L).bytesSynced(100L)))
+        .sourceReadWaitMillis(1L)
+        .mappingMillis(2L)
+        .destinationWriteMillis(3L)
+        .destinationStateAckLatencyAvgMillis(4L)
+        .destinationStateAckLatencyMaxMillis(5L)
+        .throughputSamples(List.of(new AttemptThroughputSample().elapsedMillis(60000L).recordsSynced(10L).bytesSynced(100L)));
+
+    assertEquals(expected, JobConverter.getAttemptMetrics(metrics));
+  }
+
   @Test
   public void testEnumConversion() {
     assertTrue(Enums.isCompatible(JobConfig.ConfigType.class, JobConfigType.class));
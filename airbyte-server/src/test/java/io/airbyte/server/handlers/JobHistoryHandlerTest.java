@@ -55,7 +55,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -215,6 +217,21 @@ public class JobHistoryHandlerTest {
     assertEquals(exp, jobInfoActual);
   }
 
+  @Test
+  @DisplayName("Should return the latest sync job of each connection")
+  public void testGetLatestSyncJobs() throws IOException {
+    final UUID connectionId = UUID.randomUUID();
+    final UUID connectionIdWithoutJob = UUID.randomUUID();
+    final Job syncJob = new Job(JOB_ID, JobConfig.ConfigType.SYNC, connectionId.toString(), JOB_CONFIG, ImmutableList.of(testJobAttempt), JOB_STATUS,
+        null, CREATED_AT, CREATED_AT);
+    when(jobPersistence.listLatestJobs(Set.of(JobConfig.ConfigType.SYNC), Set.of(connectionId.toString(), connectionIdWithoutJob.toString())))
+        .thenReturn(List.of(syncJob));
+
+    final Map<UUID, JobRead> actual = jobHistoryHandler.getLatestSyncJobs(Set.of(connectionId, connectionIdWithoutJob));
+
+    assertEquals(Map.of(connectionId, toJobInfo(syncJob)), actual);
+  }
+
   @Test
   @DisplayName("Should have compatible config enums")
   public void testEnumConversion() {
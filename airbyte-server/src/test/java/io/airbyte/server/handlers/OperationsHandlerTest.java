@@ -42,7 +42,9 @@ import io.airbyte.api.model.OperatorDbt;
 import io.airbyte.api.model.OperatorNormalization;
 import io.airbyte.api.model.OperatorNormalization.OptionEnum;
 import io.airbyte.api.model.OperatorType;
+import io.airbyte.api.model.WorkspaceIdRequestBody;
 import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.OperatorNormalization.Option;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
@@ -199,6 +201,20 @@ class OperationsHandlerTest {
     assertEquals(generateOperationRead(), actualOperationReadList.getOperations().get(0));
   }
 
+  @Test
+  void testListOperationsForWorkspace() throws JsonValidationException, IOException {
+    final StandardSyncOperation deletedOperation = Jsons.clone(standardSyncOperation)
+        .withOperationId(UUID.randomUUID())
+        .withTombstone(true);
+    when(configRepository.listStandardSyncOperationsForWorkspace(standardSyncOperation.getWorkspaceId()))
+        .thenReturn(List.of(standardSyncOperation, deletedOperation));
+
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(standardSyncOperation.getWorkspaceId());
+    final OperationReadList actualOperationReadList = operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody);
+
+    assertEquals(List.of(generateOperationRead()), actualOperationReadList.getOperations());
+  }
+
   @Test
   void testDeleteOperation() throws JsonValidationException, IOException, ConfigNotFoundException {
     final OperationIdRequestBody operationIdRequestBody = new OperationIdRequestBody().operationId(standardSyncOperation.getOperationId());
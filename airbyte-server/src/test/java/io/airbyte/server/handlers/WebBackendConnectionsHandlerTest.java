@@ -25,8 +25,10 @@
 package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -46,6 +48,7 @@ import io.airbyte.api.model.ConnectionStatus;
 import io.airbyte.api.model.ConnectionUpdate;
 import io.airbyte.api.model.DestinationIdRequestBody;
 import io.airbyte.api.model.DestinationRead;
+import io.airbyte.api.model.DestinationReadList;
 import io.airbyte.api.model.DestinationSyncMode;
 import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobInfoRead;
@@ -62,6 +65,7 @@ import io.airbyte.api.model.ResourceRequirements;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
+import io.airbyte.api.model.SourceReadList;
 import io.airbyte.api.model.SyncMode;
 import io.airbyte.api.model.SynchronousJobRead;
 import io.airbyte.api.model.WebBackendConnectionCreate;
@@ -94,6 +98,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -104,11 +109,16 @@ class WebBackendConnectionsHandlerTest {
 
   private ConnectionsHandler connectionsHandler;
   private OperationsHandler operationsHandler;
+  private SourceHandler sourceHandler;
+  private DestinationHandler destinationHandler;
+  private JobHistoryHandler jobHistoryHandler;
   private SchedulerHandler schedulerHandler;
   private WebBackendConnectionsHandler wbHandler;
 
   private SourceRead sourceRead;
+  private DestinationRead destinationRead;
   private ConnectionRead connectionRead;
+  private JobWithAttemptsRead jobRead;
   private OperationReadList operationReadList;
   private WebBackendConnectionRead expected;
   private WebBackendConnectionRead expectedWithNewSchema;
@@ -117,9 +127,9 @@ class WebBackendConnectionsHandlerTest {
   public void setup() throws IOException, JsonValidationException, ConfigNotFoundException {
     connectionsHandler = mock(ConnectionsHandler.class);
     operationsHandler = mock(OperationsHandler.class);
-    final SourceHandler sourceHandler = mock(SourceHandler.class);
-    final DestinationHandler destinationHandler = mock(DestinationHandler.class);
-    final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
+    sourceHandler = mock(SourceHandler.class);
+    destinationHandler = mock(DestinationHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
     schedulerHandler = mock(SchedulerHandler.class);
     wbHandler = new WebBackendConnectionsHandler(connectionsHandler, sourceHandler, destinationHandler, jobHistoryHandler, schedulerHandler,
         operationsHandler);
@@ -130,7 +140,7 @@ class WebBackendConnectionsHandlerTest {
 
     final StandardDestinationDefinition destinationDefinition = DestinationDefinitionHelpers.generateDestination();
     final DestinationConnection destination = DestinationHelpers.generateDestination(UUID.randomUUID());
-    final DestinationRead destinationRead = DestinationHelpers.getDestinationRead(destination, destinationDefinition);
+    destinationRead = DestinationHelpers.getDestinationRead(destination, destinationDefinition);
 
     final StandardSync standardSync = ConnectionHelpers.generateSyncWithSourceId(source.getSourceId());
     connectionRead = ConnectionHelpers.generateExpectedConnectionRead(standardSync);
@@ -148,7 +158,7 @@ class WebBackendConnectionsHandlerTest {
     when(destinationHandler.getDestination(destinationIdRequestBody)).thenReturn(destinationRead);
 
     final Instant now = Instant.now();
-    final JobWithAttemptsRead jobRead = new JobWithAttemptsRead()
+    jobRead = new JobWithAttemptsRead()
         .job(new JobRead()
             .configId(connectionRead.getConnectionId().toString())
             .configType(JobConfigType.SYNC)
@@ -235,16 +245,62 @@ class WebBackendConnectionsHandlerTest {
     final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody();
     workspaceIdRequestBody.setWorkspaceId(sourceRead.getWorkspaceId());
 
-    final ConnectionReadList connectionReadList = new ConnectionReadList();
-    connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
-    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
+    mockWorkspaceListings(workspaceIdRequestBody, jobRead.getJob());
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
     assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
+
+    // nothing is loaded per connection.
+    verify(sourceHandler, never()).getSource(any());
+    verify(destinationHandler, never()).getDestination(any());
+    verify(operationsHandler, never()).listOperationsForConnection(any());
+    verify(jobHistoryHandler, never()).listJobsFor(any());
+  }
+
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceWithRunningJob() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody();
+    workspaceIdRequestBody.setWorkspaceId(sourceRead.getWorkspaceId());
+
+    final JobRead runningJob = new JobRead()
+        .configId(connectionRead.getConnectionId().toString())
+        .configType(JobConfigType.SYNC)
+        .id(11L)
+        .status(JobStatus.RUNNING)
+        .createdAt(jobRead.getJob().getCreatedAt())
+        .updatedAt(jobRead.getJob().getUpdatedAt());
+    mockWorkspaceListings(workspaceIdRequestBody, runningJob);
+
+    final WebBackendConnectionRead actual = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody).getConnections().get(0);
+    assertEquals(true, actual.getIsSyncing());
+    assertEquals(JobStatus.RUNNING, actual.getLatestSyncJobStatus());
+  }
+
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceWithoutJob() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody();
+    workspaceIdRequestBody.setWorkspaceId(sourceRead.getWorkspaceId());
+
+    mockWorkspaceListings(workspaceIdRequestBody, null);
+
+    final WebBackendConnectionRead actual = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody).getConnections().get(0);
+    assertEquals(false, actual.getIsSyncing());
+    assertNull(actual.getLatestSyncJobStatus());
+    assertNull(actual.getLatestSyncJobCreatedAt());
+  }
+
+  private void mockWorkspaceListings(final WorkspaceIdRequestBody workspaceIdRequestBody, final JobRead latestSyncJob)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final ConnectionReadList connectionReadList = new ConnectionReadList();
+    connectionReadList.setConnections(Collections.singletonList(connectionRead));
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
+    when(sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody)).thenReturn(new SourceReadList().sources(List.of(sourceRead)));
+    when(destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody))
+        .thenReturn(new DestinationReadList().destinations(List.of(destinationRead)));
+    when(operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody)).thenReturn(operationReadList);
+    when(jobHistoryHandler.getLatestSyncJobs(Set.of(connectionRead.getConnectionId())))
+        .thenReturn(latestSyncJob == null ? Map.of() : Map.of(connectionRead.getConnectionId(), latestSyncJob));
   }
 
   @Test
@@ -24,11 +24,13 @@
 
 package io.airbyte.workers;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.config.ReplicationAttemptSummary;
 import io.airbyte.config.ReplicationOutput;
 import io.airbyte.config.StandardSyncInput;
 import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
 import io.airbyte.config.State;
+import io.airbyte.config.SyncMetrics;
 import io.airbyte.config.WorkerDestinationConfig;
 import io.airbyte.config.WorkerSourceConfig;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -39,9 +41,13 @@ import io.airbyte.workers.protocols.Source;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -53,6 +59,13 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // number of messages each stage of the replication pipeline may buffer ahead of the next stage.
+  private static final int DEFAULT_STAGE_BUFFER_SIZE = 1000;
+  private static final long STAGE_POLL_TIMEOUT_MS = 100;
+  // marks the end of the source stream as it travels through the pipeline. compared by identity.
+  private static final AirbyteMessage END_OF_STREAM = new AirbyteMessage();
+  private static final int STAGE_COUNT = 4;
+
   private final String jobId;
   private final int attempt;
   private final Source<AirbyteMessage> source;
@@ -60,6 +73,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final Destination<AirbyteMessage> destination;
   private final MessageTracker<AirbyteMessage> sourceMessageTracker;
   private final MessageTracker<AirbyteMessage> destinationMessageTracker;
+  private final int stageBufferSize;
 
   private final ExecutorService executors;
   private final AtomicBoolean cancelled;
@@ -72,6 +86,18 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final Destination<AirbyteMessage> destination,
                                   final MessageTracker<AirbyteMessage> sourceMessageTracker,
                                   final MessageTracker<AirbyteMessage> destinationMessageTracker) {
+    this(jobId, attempt, source, mapper, destination, sourceMessageTracker, destinationMessageTracker, DEFAULT_STAGE_BUFFER_SIZE);
+  }
+
+  @VisibleForTesting
+  DefaultReplicationWorker(final String jobId,
+                           final int attempt,
+                           final Source<AirbyteMessage> source,
+                           final Mapper<AirbyteMessage> mapper,
+                           final Destination<AirbyteMessage> destination,
+                           final MessageTracker<AirbyteMessage> sourceMessageTracker,
+                           final MessageTracker<AirbyteMessage> destinationMessageTracker,
+                           final int stageBufferSize) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -79,16 +105,20 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.destination = destination;
     this.sourceMessageTracker = sourceMessageTracker;
     this.destinationMessageTracker = destinationMessageTracker;
-    this.executors = Executors.newFixedThreadPool(2);
+    this.stageBufferSize = stageBufferSize;
+    this.executors = Executors.newFixedThreadPool(STAGE_COUNT);
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
   }
 
   /**
-   * Run executes two threads. The first pipes data from STDOUT of the source to STDIN of the
-   * destination. The second listen on STDOUT of the destination. The goal of this second thread is to
-   * detect when the destination emits state messages. Only state messages emitted by the destination
+   * Run executes four threads. The first three form a pipeline that moves data from STDOUT of the
+   * source to STDIN of the destination: one reads and parses messages from the source, one maps and
+   * tracks them, and one serializes and writes them to the destination. The stages are connected by
+   * bounded buffers, so a slow stage applies back-pressure on the stages before it. The fourth thread
+   * listens on STDOUT of the destination. The goal of this last thread is to detect when the
+   * destination emits state messages. Only state messages emitted by the destination
    * should be treated as state that is safe to return from run. In the case when the destination
    * emits no state, we fall back on whatever state is pass in as an argument to this method.
    *
@@ -115,6 +145,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
       final WorkerSourceConfig sourceConfig = WorkerUtils.syncToWorkerSourceConfig(syncInput);
 
       final Map<String, String> mdc = MDC.getCopyOfContextMap();
+      final ReplicationMetricsCollector metricsCollector = new ReplicationMetricsCollector();
 
       // note: resources are closed in the opposite order in which they are declared. thus source will be
       // closed first (which is what we want).
@@ -122,26 +153,45 @@ public class DefaultReplicationWorker implements ReplicationWorker {
         destination.start(destinationConfig, jobRoot);
         source.start(sourceConfig, jobRoot);
 
-        final Future<?> destinationOutputThreadFuture = executors.submit(getDestinationOutputRunnable(
+        final BlockingQueue<AirbyteMessage> readBuffer = new ArrayBlockingQueue<>(stageBufferSize);
+        final BlockingQueue<AirbyteMessage> writeBuffer = new ArrayBlockingQueue<>(stageBufferSize);
+        final AtomicBoolean pipelineAborted = new AtomicBoolean(false);
+        final CompletionService<String> stages = new ExecutorCompletionService<>(executors);
+
+        stages.submit(getDestinationOutputRunnable(
             destination,
             cancelled,
             destinationMessageTracker,
-            mdc));
+            metricsCollector,
+            mdc), "Destination output thread");
 
-        final Future<?> replicationThreadFuture = executors.submit(getReplicationRunnable(
+        stages.submit(getSourceReadRunnable(
             source,
-            destination,
+            readBuffer,
+            cancelled,
+            pipelineAborted,
+            metricsCollector,
+            mdc), "Source thread");
+
+        stages.submit(getMapperRunnable(
+            readBuffer,
+            writeBuffer,
             cancelled,
+            pipelineAborted,
             mapper,
             sourceMessageTracker,
-            mdc));
+            metricsCollector,
+            mdc), "Mapper thread");
+
+        stages.submit(getDestinationWriteRunnable(
+            writeBuffer,
+            destination,
+            cancelled,
+            pipelineAborted,
+            metricsCollector,
+            mdc), "Destination input thread");
 
-        LOGGER.info("Waiting for source thread to join.");
-        replicationThreadFuture.get();
-        LOGGER.info("Source thread complete.");
-        LOGGER.info("Waiting for destination thread to join.");
-        destinationOutputThreadFuture.get();
-        LOGGER.info("Destination thread complete.");
+        waitForStages(stages, STAGE_COUNT, pipelineAborted);
 
       } catch (Exception e) {
         hasFailed.set(true);
@@ -167,7 +217,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
           .withRecordsSynced(sourceMessageTracker.getRecordCount())
           .withBytesSynced(sourceMessageTracker.getBytesCount())
           .withStartTime(startTime)
-          .withEndTime(System.currentTimeMillis());
+          .withEndTime(System.currentTimeMillis())
+          .withMetrics(getMetrics(metricsCollector, sourceMessageTracker));
 
       LOGGER.info("sync summary: {}", summary);
 
@@ -199,33 +250,27 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   }
 
-  private static Runnable getReplicationRunnable(Source<AirbyteMessage> source,
-                                                 Destination<AirbyteMessage> destination,
-                                                 AtomicBoolean cancelled,
-                                                 Mapper<AirbyteMessage> mapper,
-                                                 MessageTracker<AirbyteMessage> sourceMessageTracker,
-                                                 Map<String, String> mdc) {
+  private static Runnable getSourceReadRunnable(Source<AirbyteMessage> source,
+                                                BlockingQueue<AirbyteMessage> readBuffer,
+                                                AtomicBoolean cancelled,
+                                                AtomicBoolean pipelineAborted,
+                                                ReplicationMetricsCollector metricsCollector,
+                                                Map<String, String> mdc) {
     return () -> {
       MDC.setContextMap(mdc);
       LOGGER.info("Replication thread started.");
-      var recordsRead = 0;
       try {
-        while (!cancelled.get() && !source.isFinished()) {
+        while (!cancelled.get() && !pipelineAborted.get() && !source.isFinished()) {
+          final long readStart = System.nanoTime();
           final Optional<AirbyteMessage> messageOptional = source.attemptRead();
+          metricsCollector.recordSourceRead(System.nanoTime() - readStart);
           if (messageOptional.isPresent()) {
-            final AirbyteMessage message = mapper.mapMessage(messageOptional.get());
-
-            sourceMessageTracker.accept(message);
-            destination.accept(message);
-            recordsRead += 1;
-
-            if (recordsRead % 1000 == 0) {
-              LOGGER.info("Records read: {}", recordsRead);
-            }
+            putOnStage(readBuffer, messageOptional.get(), cancelled, pipelineAborted);
           }
         }
-        destination.notifyEndOfStream();
+        putOnStage(readBuffer, END_OF_STREAM, cancelled, pipelineAborted);
       } catch (Exception e) {
+        pipelineAborted.set(true);
         if (!cancelled.get()) {
           // Although this thread is closed first, it races with the source's closure and can attempt one
           // final read after the source is closed before it's terminated.
@@ -237,9 +282,146 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     };
   }
 
+  private static Runnable getMapperRunnable(BlockingQueue<AirbyteMessage> readBuffer,
+                                            BlockingQueue<AirbyteMessage> writeBuffer,
+                                            AtomicBoolean cancelled,
+                                            AtomicBoolean pipelineAborted,
+                                            Mapper<AirbyteMessage> mapper,
+                                            MessageTracker<AirbyteMessage> sourceMessageTracker,
+                                            ReplicationMetricsCollector metricsCollector,
+                                            Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Mapper thread started.");
+      var recordsRead = 0;
+      try {
+        while (!cancelled.get() && !pipelineAborted.get()) {
+          final AirbyteMessage inputMessage = readBuffer.poll(STAGE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+          if (inputMessage == null) {
+            continue;
+          }
+          if (inputMessage == END_OF_STREAM) {
+            putOnStage(writeBuffer, END_OF_STREAM, cancelled, pipelineAborted);
+            break;
+          }
+
+          final long mappingStart = System.nanoTime();
+          // track before mapping so that records still carry the line they were read from.
+          sourceMessageTracker.accept(inputMessage);
+          final AirbyteMessage message = mapper.mapMessage(inputMessage);
+          metricsCollector.recordMapping(System.nanoTime() - mappingStart);
+          metricsCollector.maybeSample(sourceMessageTracker.getRecordCount(), sourceMessageTracker.getBytesCount());
+          putOnStage(writeBuffer, message, cancelled, pipelineAborted);
+          recordsRead += 1;
+
+          if (recordsRead % 1000 == 0) {
+            LOGGER.info("Records read: {}", recordsRead);
+          }
+        }
+      } catch (Exception e) {
+        pipelineAborted.set(true);
+        if (!cancelled.get()) {
+          throw new RuntimeException(e);
+        }
+      }
+    };
+  }
+
+  private static Runnable getDestinationWriteRunnable(BlockingQueue<AirbyteMessage> writeBuffer,
+                                                      Destination<AirbyteMessage> destination,
+                                                      AtomicBoolean cancelled,
+                                                      AtomicBoolean pipelineAborted,
+                                                      ReplicationMetricsCollector metricsCollector,
+                                                      Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Destination input thread started.");
+      try {
+        while (!cancelled.get() && !pipelineAborted.get()) {
+          final AirbyteMessage message = writeBuffer.poll(STAGE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+          if (message == null) {
+            continue;
+          }
+          if (message == END_OF_STREAM) {
+            break;
+          }
+          final long writeStart = System.nanoTime();
+          destination.accept(message);
+          metricsCollector.recordDestinationWrite(message, System.nanoTime() - writeStart);
+        }
+        // if an earlier stage failed, we must not signal a clean end of stream to the destination.
+        if (!pipelineAborted.get()) {
+          destination.notifyEndOfStream();
+        }
+      } catch (Exception e) {
+        pipelineAborted.set(true);
+        if (!cancelled.get()) {
+          // Same as the source thread, the destination can be closed while the last writes are in flight.
+          // Because of this, throw exceptions only if the worker was not cancelled.
+          throw new RuntimeException(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Waits for the threads of the replication in the order in which they complete, so that a failed
+   * stage is reported right away instead of once the stages before it finish. On the first failure,
+   * the source is cancelled, because its thread can be blocked on a read for as long as the source
+   * emits nothing.
+   */
+  private void waitForStages(final CompletionService<String> stages, final int stageCount, final AtomicBoolean pipelineAborted)
+      throws InterruptedException, ExecutionException {
+    LOGGER.info("Waiting for replication threads to join.");
+    for (int i = 0; i < stageCount; i++) {
+      try {
+        final String stage = stages.take().get();
+        LOGGER.info("{} complete.", stage);
+      } catch (final ExecutionException e) {
+        pipelineAborted.set(true);
+        LOGGER.info("A replication thread failed, cancelling source...");
+        try {
+          source.cancel();
+        } catch (final Exception cancelException) {
+          LOGGER.info("Error cancelling source: ", cancelException);
+        }
+        throw e;
+      }
+    }
+  }
+
+  private static SyncMetrics getMetrics(ReplicationMetricsCollector metricsCollector, MessageTracker<AirbyteMessage> sourceMessageTracker) {
+    // if the replication failed, a stage may still be running. metrics are best effort and must not
+    // prevent the output (and state) of the attempt from being returned.
+    try {
+      metricsCollector.sample(sourceMessageTracker.getRecordCount(), sourceMessageTracker.getBytesCount());
+      return metricsCollector.getMetrics(sourceMessageTracker.getStreamStats());
+    } catch (Exception e) {
+      LOGGER.warn("Failed to collect sync metrics.", e);
+      return null;
+    }
+  }
+
+  /**
+   * Hands a message to the next stage of the pipeline, blocking while that stage's buffer is full.
+   * Gives up without enqueueing if the worker is cancelled or another stage failed in the meantime.
+   */
+  private static void putOnStage(BlockingQueue<AirbyteMessage> buffer,
+                                 AirbyteMessage message,
+                                 AtomicBoolean cancelled,
+                                 AtomicBoolean pipelineAborted)
+      throws InterruptedException {
+    while (!cancelled.get() && !pipelineAborted.get()) {
+      if (buffer.offer(message, STAGE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+
   private static Runnable getDestinationOutputRunnable(Destination<AirbyteMessage> destination,
                                                        AtomicBoolean cancelled,
                                                        MessageTracker<AirbyteMessage> destinationMessageTracker,
+                                                       ReplicationMetricsCollector metricsCollector,
                                                        Map<String, String> mdc) {
     return () -> {
       MDC.setContextMap(mdc);
@@ -250,6 +432,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
           if (messageOptional.isPresent()) {
             LOGGER.info("state in DefaultReplicationWorker from Destination: {}", messageOptional.get());
             destinationMessageTracker.accept(messageOptional.get());
+            metricsCollector.recordDestinationState(messageOptional.get());
           }
         }
       } catch (Exception e) {
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.workers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMetrics;
+import io.airbyte.config.ThroughputSample;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects timings for each stage of a replication, the latency of state messages going through the
+ * destination and periodic throughput samples. Each stage of the replication reports into its own
+ * counters, so this can be shared by all of the replication threads.
+ */
+public class ReplicationMetricsCollector {
+
+  private static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofMinutes(1);
+
+  private final long sampleIntervalNanos;
+  private final long startNanos;
+
+  private final AtomicLong sourceReadWaitNanos = new AtomicLong();
+  private final AtomicLong mappingNanos = new AtomicLong();
+  private final AtomicLong destinationWriteNanos = new AtomicLong();
+
+  // states sent to the destination that it has not emitted back yet, in the order they were sent.
+  private final Queue<PendingState> pendingStates = new ConcurrentLinkedQueue<>();
+  private final AtomicLong stateAckCount = new AtomicLong();
+  private final AtomicLong stateAckTotalNanos = new AtomicLong();
+  private final AtomicLong stateAckMaxNanos = new AtomicLong();
+
+  private final List<ThroughputSample> throughputSamples = Collections.synchronizedList(new ArrayList<>());
+  private volatile long nextSampleNanos;
+
+  public ReplicationMetricsCollector() {
+    this(DEFAULT_SAMPLE_INTERVAL);
+  }
+
+  public ReplicationMetricsCollector(final Duration sampleInterval) {
+    this.sampleIntervalNanos = sampleInterval.toNanos();
+    this.startNanos = System.nanoTime();
+    this.nextSampleNanos = startNanos + sampleIntervalNanos;
+  }
+
+  public void recordSourceRead(final long nanos) {
+    sourceReadWaitNanos.addAndGet(nanos);
+  }
+
+  public void recordMapping(final long nanos) {
+    mappingNanos.addAndGet(nanos);
+  }
+
+  public void recordDestinationWrite(final AirbyteMessage message, final long nanos) {
+    destinationWriteNanos.addAndGet(nanos);
+    if (message.getType() == Type.STATE) {
+      pendingStates.add(new PendingState(message.getState().getData(), System.nanoTime()));
+    }
+  }
+
+  /**
+   * Records the latency of a state message emitted by the destination. Destinations emit state in
+   * the order they received it, so any state sent before the matching one is considered acknowledged
+   * as well. States that were never sent to the destination are ignored.
+   */
+  public void recordDestinationState(final AirbyteMessage message) {
+    if (message.getType() != Type.STATE) {
+      return;
+    }
+
+    final JsonNode data = message.getState().getData();
+    boolean matched = false;
+    for (final Iterator<PendingState> it = pendingStates.iterator(); it.hasNext();) {
+      if (it.next().data.equals(data)) {
+        matched = true;
+        break;
+      }
+    }
+    if (!matched) {
+      return;
+    }
+
+    PendingState acknowledged;
+    do {
+      acknowledged = pendingStates.poll();
+    } while (acknowledged != null && !acknowledged.data.equals(data));
+
+    if (acknowledged != null) {
+      final long latency = System.nanoTime() - acknowledged.sentAtNanos;
+      stateAckCount.incrementAndGet();
+      stateAckTotalNanos.addAndGet(latency);
+      stateAckMaxNanos.accumulateAndGet(latency, Math::max);
+    }
+  }
+
+  /**
+   * Takes a throughput sample if the sample interval has elapsed since the last one. Cheap enough to
+   * be called for every message.
+   */
+  public void maybeSample(final long recordsSynced, final long bytesSynced) {
+    final long now = System.nanoTime();
+    if (now - nextSampleNanos >= 0) {
+      nextSampleNanos = now + sampleIntervalNanos;
+      sample(now, recordsSynced, bytesSynced);
+    }
+  }
+
+  public void sample(final long recordsSynced, final long bytesSynced) {
+    sample(System.nanoTime(), recordsSynced, bytesSynced);
+  }
+
+  private void sample(final long now, final long recordsSynced, final long bytesSynced) {
+    throughputSamples.add(new ThroughputSample()
+        .withElapsedMillis(TimeUnit.NANOSECONDS.toMillis(now - startNanos))
+        .withRecordsSynced(recordsSynced)
+        .withBytesSynced(bytesSynced));
+  }
+
+  public SyncMetrics getMetrics(final List<StreamSyncStats> streamStats) {
+    final long ackCount = stateAckCount.get();
+    final SyncMetrics metrics = new SyncMetrics()
+        .withStreamStats(streamStats)
+        .withSourceReadWaitMillis(TimeUnit.NANOSECONDS.toMillis(sourceReadWaitNanos.get()))
+        .withMappingMillis(TimeUnit.NANOSECONDS.toMillis(mappingNanos.get()))
+        .withDestinationWriteMillis(TimeUnit.NANOSECONDS.toMillis(destinationWriteNanos.get()));
+    synchronized (throughputSamples) {
+      metrics.withThroughputSamples(new ArrayList<>(throughputSamples));
+    }
+    if (ackCount > 0) {
+      metrics
+          .withDestinationStateAckLatencyAvgMillis(TimeUnit.NANOSECONDS.toMillis(stateAckTotalNanos.get() / ackCount))
+          .withDestinationStateAckLatencyMaxMillis(TimeUnit.NANOSECONDS.toMillis(stateAckMaxNanos.get()));
+    }
+    return metrics;
+  }
+
+  private static class PendingState {
+
+    private final JsonNode data;
+    private final long sentAtNanos;
+
+    private PendingState(final JsonNode data, final long sentAtNanos) {
+      this.data = data;
+      this.sentAtNanos = sentAtNanos;
+    }
+
+  }
+
+}
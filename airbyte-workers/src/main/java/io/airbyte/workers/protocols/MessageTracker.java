@@ -25,6 +25,8 @@
 package io.airbyte.workers.protocols;
 
 import io.airbyte.config.State;
+import io.airbyte.config.StreamSyncStats;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -39,4 +41,6 @@ public interface MessageTracker<T> extends Consumer<T> {
 
   Optional<State> getOutputState();
 
+  List<StreamSyncStats> getStreamStats();
+
 }
@@ -25,38 +25,91 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import com.google.common.base.Charsets;
+import com.google.common.base.Utf8;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
+import io.airbyte.config.StreamSyncStats;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.workers.protocols.MessageTracker;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
+/**
+ * Counts records and bytes, in total and per stream, and retains the latest state message.
+ *
+ * <p>
+ * The byte count of a record is the size of its serialized data. When the stream factory kept the
+ * line a record was read from (see {@link PassthroughAirbyteMessage}), the data is measured in that
+ * line, so counting does not require serializing the record again. Only records that went through
+ * the full parse are serialized to be measured.
+ *
+ * <p>
+ * Per-stream counters are only updated by the thread calling {@link #accept}, but
+ * {@link #getStreamStats()} may be called from any thread while records are still being counted.
+ */
 public class AirbyteMessageTracker implements MessageTracker<AirbyteMessage> {
 
   private final AtomicLong recordCount;
   private final AtomicLong numBytes;
   private final AtomicReference<State> outputState;
+  // namespace -> stream name -> counters. nested maps so that no key has to be allocated per record.
+  private final Map<String, Map<String, StreamCounters>> streamCounters;
+
+  private StreamCounters lastStreamCounters;
 
   public AirbyteMessageTracker() {
     this.recordCount = new AtomicLong();
     this.numBytes = new AtomicLong();
     this.outputState = new AtomicReference<>();
+    this.streamCounters = new HashMap<>();
   }
 
   @Override
   public void accept(AirbyteMessage message) {
     if (message.getType() == AirbyteMessage.Type.RECORD) {
+      final long messageBytes = getRecordBytes(message);
       recordCount.incrementAndGet();
-      // todo (cgardens) - pretty wasteful to do an extra serialization just to get size.
-      numBytes.addAndGet(Jsons.serialize(message.getRecord().getData()).getBytes(Charsets.UTF_8).length);
+      numBytes.addAndGet(messageBytes);
+
+      final StreamCounters counters = getStreamCounters(message.getRecord());
+      counters.recordCount++;
+      counters.bytesCount += messageBytes;
     }
     if (message.getType() == AirbyteMessage.Type.STATE) {
       outputState.set(new State().withState(message.getState().getData()));
     }
   }
 
+  private static long getRecordBytes(AirbyteMessage message) {
+    if (message instanceof PassthroughAirbyteMessage) {
+      return Utf8.encodedLength(((PassthroughAirbyteMessage) message).getSerializedData());
+    }
+    return Jsons.serialize(message.getRecord().getData()).getBytes(Charsets.UTF_8).length;
+  }
+
+  private StreamCounters getStreamCounters(AirbyteRecordMessage record) {
+    // sources usually emit long runs of records from the same stream, so check the last one first.
+    if (lastStreamCounters != null
+        && lastStreamCounters.stream.equals(record.getStream())
+        && Objects.equals(lastStreamCounters.namespace, record.getNamespace())) {
+      return lastStreamCounters;
+    }
+
+    synchronized (streamCounters) {
+      lastStreamCounters = streamCounters
+          .computeIfAbsent(record.getNamespace(), k -> new HashMap<>())
+          .computeIfAbsent(record.getStream(), k -> new StreamCounters(record.getNamespace(), record.getStream()));
+    }
+    return lastStreamCounters;
+  }
+
   @Override
   public long getRecordCount() {
     return recordCount.get();
@@ -72,4 +125,36 @@ public class AirbyteMessageTracker implements MessageTracker<AirbyteMessage> {
     return Optional.ofNullable(outputState.get());
   }
 
+  @Override
+  public List<StreamSyncStats> getStreamStats() {
+    final List<StreamCounters> allStreamCounters;
+    synchronized (streamCounters) {
+      allStreamCounters = streamCounters.values().stream()
+          .flatMap(byName -> byName.values().stream())
+          .collect(Collectors.toList());
+    }
+    return allStreamCounters.stream()
+        .map(counters -> new StreamSyncStats()
+            .withStreamNamespace(counters.namespace)
+            .withStreamName(counters.stream)
+            .withRecordsSynced(counters.recordCount)
+            .withBytesSynced(counters.bytesCount))
+        .collect(Collectors.toList());
+  }
+
+  private static class StreamCounters {
+
+    private final String namespace;
+    private final String stream;
+    // only written by the thread calling accept, so the increments do not need to be atomic.
+    private volatile long recordCount;
+    private volatile long bytesCount;
+
+    private StreamCounters(String namespace, String stream) {
+      this.namespace = namespace;
+      this.stream = stream;
+    }
+
+  }
+
 }
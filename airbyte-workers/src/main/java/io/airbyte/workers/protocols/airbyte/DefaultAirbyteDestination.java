@@ -96,7 +96,11 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   public void accept(AirbyteMessage message) throws IOException {
     Preconditions.checkState(destinationProcess != null && !endOfStream.get());
 
-    writer.write(Jsons.serialize(message));
+    if (message instanceof PassthroughAirbyteMessage) {
+      writer.write(((PassthroughAirbyteMessage) message).getSerialized());
+    } else {
+      writer.write(Jsons.serialize(message));
+    }
     writer.newLine();
   }
 
@@ -43,6 +43,11 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * In passthrough mode, record messages are not deserialized. Only their envelope is read and the
+ * original line is carried along in a {@link PassthroughAirbyteMessage}. Every other line goes
+ * through the regular path.
  */
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
@@ -50,20 +55,41 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private final AirbyteProtocolPredicate protocolValidator;
   private final Logger logger;
+  private final boolean passthroughRecords;
 
   public DefaultAirbyteStreamFactory() {
-    this(new AirbyteProtocolPredicate(), LOGGER);
+    this(false);
+  }
+
+  public DefaultAirbyteStreamFactory(final boolean passthroughRecords) {
+    this(new AirbyteProtocolPredicate(), LOGGER, passthroughRecords);
   }
 
   DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger) {
+    this(protocolPredicate, logger, false);
+  }
+
+  DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger, final boolean passthroughRecords) {
     protocolValidator = protocolPredicate;
     this.logger = logger;
+    this.passthroughRecords = passthroughRecords;
   }
 
   @Override
   public Stream<AirbyteMessage> create(BufferedReader bufferedReader) {
+    if (!passthroughRecords) {
+      return parse(bufferedReader.lines());
+    }
+
     return bufferedReader
         .lines()
+        .flatMap(line -> PassthroughAirbyteMessage.fromRecordLine(line)
+            .map(Stream::of)
+            .orElseGet(() -> parse(Stream.of(line))));
+  }
+
+  private Stream<AirbyteMessage> parse(Stream<String> lines) {
+    return lines
         .map(s -> {
           Optional<JsonNode> j = Jsons.tryDeserialize(s);
           if (j.isEmpty()) {
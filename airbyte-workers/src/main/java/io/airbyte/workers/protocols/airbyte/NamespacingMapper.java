@@ -79,10 +79,24 @@ public class NamespacingMapper implements Mapper<AirbyteMessage> {
     return catalog;
   }
 
+  /**
+   * @return true if {@link #mapMessage} changes record messages. When it does not, records can be
+   *         forwarded to the destination exactly as the source emitted them.
+   */
+  public boolean rewritesRecords() {
+    final boolean rewritesNamespace = namespaceDefinition != null && (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)
+        || namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT));
+    return rewritesNamespace || Strings.isNotBlank(streamPrefix);
+  }
+
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
-    if (inputMessage.getType() == Type.RECORD) {
-      final AirbyteMessage message = Jsons.clone(inputMessage);
+    if (inputMessage.getType() == Type.RECORD && rewritesRecords()) {
+      // a passthrough message only has its envelope decoded and must not be forwarded once changed, so
+      // the copy is rebuilt from its original line.
+      final AirbyteMessage message = inputMessage instanceof PassthroughAirbyteMessage
+          ? Jsons.deserialize(((PassthroughAirbyteMessage) inputMessage).getSerialized(), AirbyteMessage.class)
+          : Jsons.clone(inputMessage);
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
       if (namespaceDefinition != null) {
         if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
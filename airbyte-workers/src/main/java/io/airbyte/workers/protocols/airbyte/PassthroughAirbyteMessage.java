@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Optional;
+
+/**
+ * A record message whose envelope (type, stream, namespace, emitted_at) has been read from the
+ * source output line without decoding its data payload. The original line is kept so it can be
+ * forwarded to the destination verbatim, skipping a deserialize / serialize round trip on the data.
+ *
+ * <p>
+ * The data payload is only decoded if something calls {@link AirbyteRecordMessage#getData()} on the
+ * record. These messages must not be mutated: a rewritten record has to be built as a plain
+ * {@link AirbyteMessage} so that the stale original line is not forwarded.
+ */
+public class PassthroughAirbyteMessage extends AirbyteMessage {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final String serialized;
+  private final int dataStart;
+  private final int dataEnd;
+
+  private PassthroughAirbyteMessage(final String serialized,
+                                    final int dataStart,
+                                    final int dataEnd,
+                                    final String stream,
+                                    final String namespace,
+                                    final Long emittedAt) {
+    this.serialized = serialized;
+    this.dataStart = dataStart;
+    this.dataEnd = dataEnd;
+    withType(Type.RECORD);
+    withRecord(new LazyDataRecordMessage(serialized)
+        .withStream(stream)
+        .withNamespace(namespace)
+        .withEmittedAt(emittedAt));
+  }
+
+  /**
+   * @return the line this message was read from, exactly as the source emitted it.
+   */
+  @JsonIgnore
+  public String getSerialized() {
+    return serialized;
+  }
+
+  /**
+   * @return the part of the line that holds the record data, exactly as the source emitted it.
+   */
+  @JsonIgnore
+  public CharSequence getSerializedData() {
+    return CharBuffer.wrap(serialized, dataStart, dataEnd);
+  }
+
+  /**
+   * Reads only the envelope of a serialized message with a streaming parser, skipping over the record
+   * data.
+   *
+   * @param line single line of source output
+   * @return a passthrough message if the line is a well-formed record message, empty otherwise. Lines
+   *         for which this returns empty (other message types, malformed or unusual records, trailing
+   *         content) should go through the regular deserialization and validation path.
+   */
+  public static Optional<AirbyteMessage> fromRecordLine(final String line) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      String type = null;
+      String stream = null;
+      String namespace = null;
+      Long emittedAt = null;
+      int dataStart = -1;
+      int dataEnd = -1;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        final JsonToken value = parser.nextToken();
+        if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+          type = parser.getText();
+        } else if ("record".equals(field) && value == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String recordField = parser.getCurrentName();
+            final JsonToken recordValue = parser.nextToken();
+            if ("stream".equals(recordField) && recordValue == JsonToken.VALUE_STRING) {
+              stream = parser.getText();
+            } else if ("namespace".equals(recordField) && (recordValue == JsonToken.VALUE_STRING || recordValue == JsonToken.VALUE_NULL)) {
+              namespace = recordValue == JsonToken.VALUE_NULL ? null : parser.getText();
+            } else if ("emitted_at".equals(recordField) && recordValue == JsonToken.VALUE_NUMBER_INT) {
+              emittedAt = parser.getLongValue();
+            } else if ("data".equals(recordField) && recordValue == JsonToken.START_OBJECT) {
+              dataStart = (int) parser.getTokenLocation().getCharOffset();
+              parser.skipChildren();
+              dataEnd = (int) parser.getTokenLocation().getCharOffset() + 1;
+            } else {
+              // any other shape is left to the full parse so it is validated as before.
+              return Optional.empty();
+            }
+          }
+        } else {
+          return Optional.empty();
+        }
+      }
+
+      // the message must be the only thing on the line, since the line is forwarded as is.
+      if (parser.nextToken() != null) {
+        return Optional.empty();
+      }
+
+      if (!Type.RECORD.value().equals(type) || stream == null || emittedAt == null || dataStart < 0) {
+        return Optional.empty();
+      }
+
+      return Optional.of(new PassthroughAirbyteMessage(line, dataStart, dataEnd, stream, namespace, emittedAt));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static class LazyDataRecordMessage extends AirbyteRecordMessage {
+
+    private final String serialized;
+    private boolean dataLoaded = false;
+
+    private LazyDataRecordMessage(final String serialized) {
+      this.serialized = serialized;
+    }
+
+    @Override
+    public JsonNode getData() {
+      if (!dataLoaded) {
+        setData(Jsons.deserialize(serialized).get("record").get("data"));
+      }
+      return super.getData();
+    }
+
+    @Override
+    public void setData(final JsonNode data) {
+      dataLoaded = true;
+      super.setData(data);
+    }
+
+  }
+
+}
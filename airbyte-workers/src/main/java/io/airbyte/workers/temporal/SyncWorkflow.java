@@ -55,6 +55,7 @@ import io.airbyte.workers.protocols.airbyte.AirbyteMessageTracker;
 import io.airbyte.workers.protocols.airbyte.AirbyteSource;
 import io.airbyte.workers.protocols.airbyte.DefaultAirbyteDestination;
 import io.airbyte.workers.protocols.airbyte.DefaultAirbyteSource;
+import io.airbyte.workers.protocols.airbyte.DefaultAirbyteStreamFactory;
 import io.airbyte.workers.protocols.airbyte.EmptyAirbyteSource;
 import io.airbyte.workers.protocols.airbyte.NamespacingMapper;
 import io.temporal.activity.ActivityCancellationType;
@@ -196,6 +197,7 @@ public interface SyncWorkflow {
       syncSummary.setStartTime(output.getReplicationAttemptSummary().getStartTime());
       syncSummary.setEndTime(output.getReplicationAttemptSummary().getEndTime());
       syncSummary.setStatus(output.getReplicationAttemptSummary().getStatus());
+      syncSummary.setMetrics(output.getReplicationAttemptSummary().getMetrics());
 
       final StandardSyncOutput standardSyncOutput = new StandardSyncOutput();
       standardSyncOutput.setState(output.getState());
@@ -224,16 +226,21 @@ public interface SyncWorkflow {
             processFactory,
             syncInput.getResourceRequirements());
 
+        final NamespacingMapper mapper =
+            new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix());
+
         // reset jobs use an empty source to induce resetting all data in destination.
+        // records keep the line they were read from: it is forwarded to the destination as is when the
+        // mapper does not rewrite records, and it is used to count bytes.
         final AirbyteSource airbyteSource =
             sourceLauncherConfig.getDockerImage().equals(WorkerConstants.RESET_JOB_SOURCE_DOCKER_IMAGE_STUB) ? new EmptyAirbyteSource()
-                : new DefaultAirbyteSource(sourceLauncher);
+                : new DefaultAirbyteSource(sourceLauncher, new DefaultAirbyteStreamFactory(true));
 
         return new DefaultReplicationWorker(
             jobRunConfig.getJobId(),
             Math.toIntExact(jobRunConfig.getAttemptId()),
             airbyteSource,
-            new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
+            mapper,
             new DefaultAirbyteDestination(destinationLauncher),
             new AirbyteMessageTracker(),
             new AirbyteMessageTracker());
@@ -30,9 +30,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,6 +68,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.AfterEach;
@@ -71,6 +76,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -152,6 +158,78 @@ class DefaultReplicationWorkerTest {
     verify(destination).close();
   }
 
+  @Test
+  void testPipelinePreservesOrderWithFullBuffers() throws Exception {
+    // a buffer of one message per stage forces every stage to wait on the next one.
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        sourceMessageTracker,
+        destinationMessageTracker,
+        1);
+
+    worker.run(syncInput, jobRoot);
+
+    final InOrder inOrder = inOrder(sourceMessageTracker, destination);
+    inOrder.verify(sourceMessageTracker).accept(RECORD_MESSAGE1);
+    inOrder.verify(destination).accept(RECORD_MESSAGE1);
+    inOrder.verify(destination).accept(RECORD_MESSAGE2);
+    inOrder.verify(destination).notifyEndOfStream();
+  }
+
+  @Test
+  void testDoesNotNotifyEndOfStreamWhenSourceFails() throws Exception {
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1)).thenThrow(new IllegalStateException("induced exception"));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        sourceMessageTracker,
+        destinationMessageTracker);
+
+    final ReplicationOutput actual = worker.run(syncInput, jobRoot);
+
+    assertEquals(ReplicationStatus.FAILED, actual.getReplicationAttemptSummary().getStatus());
+    verify(destination, never()).notifyEndOfStream();
+  }
+
+  @Test
+  void testDestinationFailureCancelsBlockedSource() {
+    // the source blocks on its next read until it is cancelled, like a source that emits nothing.
+    final CountDownLatch sourceCancelled = new CountDownLatch(1);
+    when(source.isFinished()).thenReturn(false);
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1)).thenAnswer(invocation -> {
+      sourceCancelled.await();
+      return Optional.empty();
+    });
+    doAnswer(invocation -> {
+      sourceCancelled.countDown();
+      return null;
+    }).when(source).cancel();
+    doThrow(new IllegalStateException("induced exception")).when(destination).accept(RECORD_MESSAGE1);
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        sourceMessageTracker,
+        destinationMessageTracker);
+
+    final ReplicationOutput actual = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> worker.run(syncInput, jobRoot));
+
+    assertEquals(ReplicationStatus.FAILED, actual.getReplicationAttemptSummary().getStatus());
+    verify(source).cancel();
+    verify(destination, never()).notifyEndOfStream();
+  }
+
   @Test
   void testLoggingInThreads() throws IOException, WorkerException {
     // set up the mdc so that actually log to a file, so that we can verify that file logging captures
@@ -265,9 +343,13 @@ class DefaultReplicationWorkerTest {
             Jsons.jsonNode(actual));
     assertTrue(validate.isEmpty(), "Validation errors: " + Strings.join(validate, ","));
 
-    // remove times so we can do the rest of the object <> object comparison.
+    // good enough to verify that metrics are present. they are covered by ReplicationMetricsCollectorTest.
+    assertNotNull(actual.getReplicationAttemptSummary().getMetrics());
+
+    // remove times and metrics so we can do the rest of the object <> object comparison.
     actual.getReplicationAttemptSummary().withStartTime(null);
     actual.getReplicationAttemptSummary().withEndTime(null);
+    actual.getReplicationAttemptSummary().withMetrics(null);
 
     assertEquals(replicationOutput, actual);
   }
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Airbyte
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.airbyte.workers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMetrics;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.protocols.airbyte.AirbyteMessageUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ReplicationMetricsCollectorTest {
+
+  private static final AirbyteMessage RECORD_MESSAGE = AirbyteMessageUtils.createRecordMessage("users", "name", "rudolph");
+  private static final AirbyteMessage STATE_MESSAGE1 = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+  private static final AirbyteMessage STATE_MESSAGE2 = AirbyteMessageUtils.createStateMessage("checkpoint", "2");
+
+  @Test
+  void testStageTimings() {
+    final ReplicationMetricsCollector collector = new ReplicationMetricsCollector();
+    collector.recordSourceRead(TimeUnit.MILLISECONDS.toNanos(3));
+    collector.recordSourceRead(TimeUnit.MILLISECONDS.toNanos(4));
+    collector.recordMapping(TimeUnit.MILLISECONDS.toNanos(5));
+    collector.recordDestinationWrite(RECORD_MESSAGE, TimeUnit.MILLISECONDS.toNanos(6));
+
+    final List<StreamSyncStats> streamStats = List.of(new StreamSyncStats().withStreamName("users").withRecordsSynced(1L).withBytesSynced(10L));
+    final SyncMetrics metrics = collector.getMetrics(streamStats);
+
+    assertEquals(7L, metrics.getSourceReadWaitMillis());
+    assertEquals(5L, metrics.getMappingMillis());
+    assertEquals(6L, metrics.getDestinationWriteMillis());
+    assertEquals(streamStats, metrics.getStreamStats());
+    assertNull(metrics.getDestinationStateAckLatencyAvgMillis());
+  }
+
+  @Test
+  void testStateAckLatency() {
+    final ReplicationMetricsCollector collector = new ReplicationMetricsCollector();
+    collector.recordDestinationWrite(STATE_MESSAGE1, 0);
+    collector.recordDestinationWrite(STATE_MESSAGE2, 0);
+    // a state the destination was never sent is ignored.
+    collector.recordDestinationState(AirbyteMessageUtils.createStateMessage("checkpoint", "unknown"));
+    assertNull(collector.getMetrics(List.of()).getDestinationStateAckLatencyMaxMillis());
+
+    // acknowledging the second state acknowledges the first one as well.
+    collector.recordDestinationState(STATE_MESSAGE2);
+    collector.recordDestinationState(STATE_MESSAGE1);
+
+    final SyncMetrics metrics = collector.getMetrics(List.of());
+    assertNotNull(metrics.getDestinationStateAckLatencyAvgMillis());
+    assertNotNull(metrics.getDestinationStateAckLatencyMaxMillis());
+  }
+
+  @Test
+  void testThroughputSamples() {
+    final ReplicationMetricsCollector collector = new ReplicationMetricsCollector(Duration.ofHours(1));
+    collector.maybeSample(1, 10);
+    collector.sample(2, 20);
+
+    final SyncMetrics metrics = collector.getMetrics(List.of());
+    assertEquals(1, metrics.getThroughputSamples().size());
+    assertEquals(2L, metrics.getThroughputSamples().get(0).getRecordsSynced());
+    assertEquals(20L, metrics.getThroughputSamples().get(0).getBytesSynced());
+
+    final ReplicationMetricsCollector eagerCollector = new ReplicationMetricsCollector(Duration.ZERO);
+    eagerCollector.maybeSample(1, 10);
+    eagerCollector.maybeSample(2, 20);
+    assertTrue(eagerCollector.getMetrics(List.of()).getThroughputSamples().size() >= 2);
+  }
+
+}
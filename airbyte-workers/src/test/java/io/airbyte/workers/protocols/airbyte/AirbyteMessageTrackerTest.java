@@ -31,9 +31,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
+import io.airbyte.config.StreamSyncStats;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.base.Charsets;
 
@@ -54,6 +57,44 @@ class AirbyteMessageTrackerTest {
     assertEquals(3 * Jsons.serialize(message.getRecord().getData()).getBytes(Charsets.UTF_8).length, messageTracker.getBytesCount());
   }
 
+  @Test
+  public void testCountsSameBytesForPassthroughAndParsedRecords() {
+    final AirbyteMessage parsedMessage = AirbyteMessageUtils.createRecordMessage("stream", "name", "rüdolph");
+    final AirbyteMessage passthroughMessage = PassthroughAirbyteMessage.fromRecordLine(Jsons.serialize(parsedMessage)).orElseThrow();
+
+    final AirbyteMessageTracker parsedTracker = new AirbyteMessageTracker();
+    parsedTracker.accept(parsedMessage);
+    final AirbyteMessageTracker passthroughTracker = new AirbyteMessageTracker();
+    passthroughTracker.accept(passthroughMessage);
+
+    assertEquals(Jsons.serialize(parsedMessage.getRecord().getData()).getBytes(Charsets.UTF_8).length, parsedTracker.getBytesCount());
+    assertEquals(parsedTracker.getBytesCount(), passthroughTracker.getBytesCount());
+  }
+
+  @Test
+  public void testCountsPerStream() {
+    final AirbyteMessage usersMessage = AirbyteMessageUtils.createRecordMessage("users", "name", "rudolph");
+    final AirbyteMessage publicUsersMessage = AirbyteMessageUtils.createRecordMessage("users", "name", "rudolph");
+    publicUsersMessage.getRecord().withNamespace("public");
+    final AirbyteMessage ordersMessage = AirbyteMessageUtils.createRecordMessage("orders", "id", "1");
+    final long usersBytes = Jsons.serialize(usersMessage.getRecord().getData()).getBytes(Charsets.UTF_8).length;
+
+    final AirbyteMessageTracker messageTracker = new AirbyteMessageTracker();
+    messageTracker.accept(usersMessage);
+    messageTracker.accept(usersMessage);
+    messageTracker.accept(publicUsersMessage);
+    messageTracker.accept(ordersMessage);
+    messageTracker.accept(usersMessage);
+
+    final Map<String, StreamSyncStats> stats = messageTracker.getStreamStats().stream()
+        .collect(Collectors.toMap(s -> s.getStreamNamespace() + "." + s.getStreamName(), s -> s));
+    assertEquals(3, stats.size());
+    assertEquals(3, stats.get("null.users").getRecordsSynced());
+    assertEquals(3 * usersBytes, stats.get("null.users").getBytesSynced());
+    assertEquals(1, stats.get("public.users").getRecordsSynced());
+    assertEquals(1, stats.get("null.orders").getRecordsSynced());
+  }
+
   @Test
   public void testRetainsLatestState() {
     final JsonNode oldStateValue = Jsons.jsonNode(ImmutableMap.builder().put("lastSync", "1598900000").build());
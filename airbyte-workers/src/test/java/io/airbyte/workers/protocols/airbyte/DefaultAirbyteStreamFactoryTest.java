@@ -25,6 +25,8 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -41,6 +43,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +77,38 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoInteractions(logger);
   }
 
+  @Test
+  public void testPassthroughRecord() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    record1.getRecord().withNamespace("public");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(line, true).collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    assertTrue(messages.get(0) instanceof PassthroughAirbyteMessage);
+    assertEquals(line, ((PassthroughAirbyteMessage) messages.get(0)).getSerialized());
+    assertEquals(STREAM_NAME, messages.get(0).getRecord().getStream());
+    assertEquals("public", messages.get(0).getRecord().getNamespace());
+    // data is decoded lazily on access.
+    assertEquals(record1.getRecord().getData(), messages.get(0).getRecord().getData());
+    verifyNoInteractions(protocolPredicate);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  public void testPassthroughFallsBackForOtherMessages() {
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    // trailing content must not be forwarded verbatim, so the line is parsed the regular way.
+    final String inputString = Jsons.serialize(state) + "\n" + Jsons.serialize(record1) + " trailing";
+
+    final List<AirbyteMessage> messages = stringToMessageStream(inputString, true).collect(Collectors.toList());
+
+    assertEquals(List.of(state, record1), messages);
+    assertFalse(messages.get(1) instanceof PassthroughAirbyteMessage);
+  }
+
   @Test
   public void testLoggingLine() {
     final String invalidRecord = "invalid line";
@@ -138,9 +173,13 @@ class DefaultAirbyteStreamFactoryTest {
   }
 
   private Stream<AirbyteMessage> stringToMessageStream(String inputString) {
+    return stringToMessageStream(inputString, false);
+  }
+
+  private Stream<AirbyteMessage> stringToMessageStream(String inputString, boolean passthroughRecords) {
     InputStream inputStream = new ByteArrayInputStream(inputString.getBytes());
     final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
-    return new DefaultAirbyteStreamFactory(protocolPredicate, logger).create(bufferedReader);
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, passthroughRecords).create(bufferedReader);
   }
 
 }
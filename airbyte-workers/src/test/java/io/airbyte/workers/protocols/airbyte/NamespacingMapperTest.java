@@ -25,6 +25,9 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -221,4 +224,34 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testRewritesRecords() {
+    assertFalse(new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null).rewritesRecords());
+    assertFalse(new NamespacingMapper(null, null, "").rewritesRecords());
+    assertTrue(new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, OUTPUT_PREFIX).rewritesRecords());
+    assertTrue(new NamespacingMapper(NamespaceDefinitionType.DESTINATION, null, null).rewritesRecords());
+    assertTrue(new NamespacingMapper(NamespaceDefinitionType.CUSTOMFORMAT, "output", null).rewritesRecords());
+  }
+
+  @Test
+  void testRewritesPassthroughRecord() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, OUTPUT_PREFIX);
+    final AirbyteMessage passthroughMessage = PassthroughAirbyteMessage.fromRecordLine(Jsons.serialize(RECORD_MESSAGE)).orElseThrow();
+
+    final AirbyteMessage expectedMessage = AirbyteMessageUtils.createRecordMessage(OUTPUT_PREFIX + STREAM_NAME, FIELD_NAME, "blue");
+    expectedMessage.getRecord().withNamespace(INPUT_NAMESPACE);
+    final AirbyteMessage actualMessage = mapper.mapMessage(passthroughMessage);
+
+    assertFalse(actualMessage instanceof PassthroughAirbyteMessage);
+    assertEquals(expectedMessage, actualMessage);
+    assertEquals(STREAM_NAME, passthroughMessage.getRecord().getStream());
+  }
+
+  @Test
+  void testRecordsNotRewrittenAreReturnedAsIs() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null);
+
+    assertSame(RECORD_MESSAGE, mapper.mapMessage(RECORD_MESSAGE));
+  }
+
 }